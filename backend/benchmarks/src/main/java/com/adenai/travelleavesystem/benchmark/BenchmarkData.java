@@ -0,0 +1,110 @@
+package com.adenai.travelleavesystem.benchmark;
+
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.TravelRequest;
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.TravelRequestView;
+import com.adenai.travelleavesystem.model.User;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Deterministic fixtures shaped like production rows, so every run and every benchmark sees the same data
+final class BenchmarkData {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+    private static final TravelRequestStatus[] STATUSES = TravelRequestStatus.values();
+
+    private BenchmarkData() {}
+
+    static User manager() {
+        User manager = new User();
+        manager.setId(1L);
+        manager.setFirstName("John");
+        manager.setLastName("Manager");
+        manager.setEmail("manager@gmail.com");
+        manager.setPassword("$2a$10$ZGj1DVQyZuFm03adgsp1K.49a0pzFeTZSZn/vF0SbA0hYi3Uw027y");
+        manager.setRole(Role.MANAGER);
+        manager.setLeavesLeft(25);
+        return manager;
+    }
+
+    static User employee(long id) {
+        User employee = new User();
+        employee.setId(id);
+        employee.setFirstName("Employee" + id);
+        employee.setLastName("Lastname" + id);
+        employee.setEmail("employee" + id + "@gmail.com");
+        employee.setPassword("$2a$10$ZGj1DVQyZuFm03adgsp1K.49a0pzFeTZSZn/vF0SbA0hYi3Uw027y");
+        employee.setRole(Role.EMPLOYEE);
+        employee.setLeavesLeft(30);
+        employee.setManagerId(1L);
+        return employee;
+    }
+
+    static TravelRequest travelRequest(long id, User employee) {
+        TravelRequest request = new TravelRequest();
+        request.setId(id);
+        request.setEmployee(employee);
+        request.setFromDate(LocalDate.of(2025, 4, 1).plusDays(id % 200));
+        request.setToDate(LocalDate.of(2025, 4, 3).plusDays(id % 200));
+        request.setFromLocation("Pune");
+        request.setDestination("Bengaluru");
+        request.setModeOfTransport("Flight");
+        request.setPurposeOfTravel("Quarterly client review and workshop with the regional delivery team");
+        request.setStatus(STATUSES[(int) (id % STATUSES.length)]);
+        request.calculateDaysRequested();
+        request.setCreatedAt(CREATED_AT.plusMinutes(id));
+        if (request.getStatus() != TravelRequestStatus.PENDING) {
+            request.setApprovedBy(1L);
+            request.setApprovedAt(CREATED_AT.plusMinutes(id).plusHours(3));
+        }
+        if (request.getStatus() == TravelRequestStatus.REJECTED) {
+            request.setRejectionReason("Budget for this quarter is exhausted");
+        }
+        return request;
+    }
+
+    static List<TravelRequestView> views(int size) {
+        User manager = manager();
+        List<TravelRequestView> views = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            User employee = employee(100 + i % 10);
+            TravelRequest request = travelRequest(i, employee);
+            TravelRequestView view = new TravelRequestView();
+            view.setId(request.getId());
+            view.setEmployeeId(employee.getId());
+            view.setManagerId(manager.getId());
+            view.setEmployeeFirstName(employee.getFirstName());
+            view.setEmployeeLastName(employee.getLastName());
+            view.setManagerFirstName(manager.getFirstName());
+            view.setManagerEmail(manager.getEmail());
+            view.setFromDate(request.getFromDate());
+            view.setToDate(request.getToDate());
+            view.setFromLocation(request.getFromLocation());
+            view.setDestination(request.getDestination());
+            view.setModeOfTransport(request.getModeOfTransport());
+            view.setPurposeOfTravel(request.getPurposeOfTravel());
+            view.setStatus(request.getStatus());
+            view.setDaysRequested(request.getDaysRequested());
+            view.setApprovedAt(request.getApprovedAt());
+            view.setRejectionReason(request.getRejectionReason());
+            view.setCreatedAt(request.getCreatedAt());
+            views.add(view);
+        }
+        return views;
+    }
+
+    // Balances the service looks up per page, keyed by employee id
+    static Map<Long, Integer> balances(List<TravelRequestView> views) {
+        Map<Long, Integer> balances = new HashMap<>();
+        for (TravelRequestView view : views) {
+            balances.put(view.getEmployeeId(), employee(view.getEmployeeId()).getLeavesLeft());
+        }
+        return balances;
+    }
+}
@@ -0,0 +1,19 @@
+package com.adenai.travelleavesystem.benchmark;
+
+import org.openjdk.jmh.Main;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Entry point of benchmarks.jar: plain JMH, with the gc profiler on unless profilers are chosen explicitly
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        if (!jmhArgs.contains("-prof")) {
+            jmhArgs.add(0, "gc");
+            jmhArgs.add(0, "-prof");
+        }
+        Main.main(jmhArgs.toArray(new String[0]));
+    }
+}
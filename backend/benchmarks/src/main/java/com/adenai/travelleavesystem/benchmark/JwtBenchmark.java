@@ -0,0 +1,65 @@
+package com.adenai.travelleavesystem.benchmark;
+
+import com.adenai.travelleavesystem.security.JwtUtils;
+import com.adenai.travelleavesystem.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.concurrent.TimeUnit;
+
+// Token issue cost on login and verification cost on every authenticated request, with and without the verified-token cache
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class JwtBenchmark {
+
+    private static final String SECRET = "TravelLeaveSystemSecretKey2024ForJWTTokenGeneration";
+
+    @State(Scope.Benchmark)
+    public static class Tokens {
+
+        // 0 disables the cache, so every call verifies the HMAC signature and parses the claims
+        @Param({"0", "10000"})
+        public long cacheMaxSize;
+
+        JwtUtils jwtUtils;
+
+        UserPrincipal principal;
+
+        String token;
+
+        @Setup
+        public void setUp() {
+            jwtUtils = new JwtUtils();
+            ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+            ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+            ReflectionTestUtils.setField(jwtUtils, "cacheMaxSize", cacheMaxSize);
+            ReflectionTestUtils.setField(jwtUtils, "meterRegistry", new SimpleMeterRegistry());
+            ReflectionTestUtils.invokeMethod(jwtUtils, "init");
+            principal = UserPrincipal.create(BenchmarkData.employee(101));
+            token = jwtUtils.generateJwtToken(principal);
+        }
+    }
+
+    @Benchmark
+    public String generateJwtToken(Tokens tokens) {
+        return tokens.jwtUtils.generateJwtToken(tokens.principal);
+    }
+
+    @Benchmark
+    public boolean validateJwtToken(Tokens tokens) {
+        return tokens.jwtUtils.validateJwtToken(tokens.token);
+    }
+}
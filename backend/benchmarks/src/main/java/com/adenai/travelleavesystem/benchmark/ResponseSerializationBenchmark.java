@@ -0,0 +1,63 @@
+package com.adenai.travelleavesystem.benchmark;
+
+import com.adenai.travelleavesystem.dto.TravelRequestResponse;
+import com.adenai.travelleavesystem.model.TravelRequestView;
+import com.adenai.travelleavesystem.service.TravelRequestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// JSON for a list endpoint page, with an ObjectMapper configured the way Spring Boot configures the MVC one
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+
+    private List<TravelRequestResponse> responses;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Throwable {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TravelRequestResponse.class));
+
+        // Responses come from the real mapping so the payload matches what the endpoint serializes
+        List<TravelRequestView> views = BenchmarkData.views(pageSize);
+        responses = (List<TravelRequestResponse>) MethodHandles.privateLookupIn(TravelRequestService.class, MethodHandles.lookup())
+                .findVirtual(TravelRequestService.class, "convertViews", MethodType.methodType(List.class, List.class, Map.class))
+                .invoke(new TravelRequestService(), views, BenchmarkData.balances(views));
+    }
+
+    @Benchmark
+    public byte[] writeResponses() throws Exception {
+        return writer.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,37 @@
+package com.adenai.travelleavesystem.benchmark;
+
+import com.adenai.travelleavesystem.model.TravelRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+// Day count run on every create; should stay a few nanoseconds and allocation-free
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class TravelRequestBenchmark {
+
+    private TravelRequest request;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkData.travelRequest(42, BenchmarkData.employee(101));
+    }
+
+    @Benchmark
+    public Integer calculateDaysRequested() {
+        request.calculateDaysRequested();
+        return request.getDaysRequested();
+    }
+}
@@ -0,0 +1,98 @@
+package com.adenai.travelleavesystem.benchmark;
+
+import com.adenai.travelleavesystem.dto.TravelRequestResponse;
+import com.adenai.travelleavesystem.model.TravelRequest;
+import com.adenai.travelleavesystem.model.TravelRequestView;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.service.TravelRequestService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/view to response mapping in TravelRequestService, with the repositories left out: convertViews is
+ * what every list endpoint runs per page, the entity overload what create/approve/reject return. Both are
+ * private, so they are reached through method handles, which the JIT inlines like a direct call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class TravelRequestConversionBenchmark {
+
+    private static final MethodHandle CONVERT_VIEWS;
+
+    private static final MethodHandle CONVERT_ENTITY;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(TravelRequestService.class, MethodHandles.lookup());
+            CONVERT_VIEWS = lookup.findVirtual(TravelRequestService.class, "convertViews",
+                    MethodType.methodType(List.class, List.class, Map.class));
+            CONVERT_ENTITY = lookup.findVirtual(TravelRequestService.class, "convertToResponse",
+                    MethodType.methodType(TravelRequestResponse.class, TravelRequest.class, User.class, Integer.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Page {
+
+        // Default and maximum page sizes of the list endpoints
+        @Param({"20", "100"})
+        public int pageSize;
+
+        List<TravelRequestView> views;
+
+        Map<Long, Integer> balances;
+
+        @Setup
+        public void setUp() {
+            views = BenchmarkData.views(pageSize);
+            balances = BenchmarkData.balances(views);
+        }
+    }
+
+    private TravelRequestService service;
+
+    private TravelRequest request;
+
+    private User manager;
+
+    private Integer leavesLeft;
+
+    @Setup
+    public void setUp() {
+        service = new TravelRequestService();
+        manager = BenchmarkData.manager();
+        request = BenchmarkData.travelRequest(42, BenchmarkData.employee(101));
+        leavesLeft = 27;
+    }
+
+    @Benchmark
+    public List convertViews(Page page) throws Throwable {
+        return (List) CONVERT_VIEWS.invokeExact(service, (List) page.views, (Map) page.balances);
+    }
+
+    @Benchmark
+    public TravelRequestResponse convertEntity() throws Throwable {
+        return (TravelRequestResponse) CONVERT_ENTITY.invokeExact(service, request, manager, leavesLeft);
+    }
+}
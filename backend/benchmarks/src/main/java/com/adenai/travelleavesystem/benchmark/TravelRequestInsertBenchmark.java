@@ -0,0 +1,113 @@
+package com.adenai.travelleavesystem.benchmark;
+
+import com.adenai.travelleavesystem.model.TravelRequest;
+import com.adenai.travelleavesystem.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts 100k travel requests through Hibernate in 1,000-row transactions, like the import and generator paths.
+ * The score is time per row; rows/s = 1,000,000 / score. batchSize=1 turns JDBC batching off for comparison.
+ * The schema comes from the backend's Flyway migrations; point {@code url} at an H2 TCP server to include round-trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(TravelRequestInsertBenchmark.ROWS)
+@Warmup(iterations = 8)
+@Measurement(iterations = 5)
+@Fork(3)
+public class TravelRequestInsertBenchmark {
+
+    static final int ROWS = 100_000;
+
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+
+    @Param({"jdbc:h2:mem:inserts;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"})
+    public String url;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private JdbcTemplate jdbcTemplate;
+    private EntityManagerFactory entityManagerFactory;
+    private Long employeeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        employeeId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users WHERE role = 'EMPLOYEE'", Long.class);
+
+        // Only the two mapped tables; the second-level cache and its Spring-managed regions stay out of the measurement
+        Properties jpaProperties = new Properties();
+        jpaProperties.setProperty("hibernate.jdbc.batch_size", Integer.toString(batchSize));
+        jpaProperties.setProperty("hibernate.order_inserts", "true");
+        jpaProperties.setProperty("hibernate.jdbc.time_zone", "UTC");
+        jpaProperties.setProperty("hibernate.cache.use_second_level_cache", "false");
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setManagedTypes(PersistenceManagedTypes.of(
+                User.class.getName(), TravelRequest.class.getName()));
+        factory.setJpaProperties(jpaProperties);
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearRequests() {
+        jdbcTemplate.update("DELETE FROM travel_requests");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Benchmark
+    public void insertRequests() {
+        for (int offset = 0; offset < ROWS; offset += ROWS_PER_TRANSACTION) {
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            try {
+                entityManager.getTransaction().begin();
+                User employee = entityManager.getReference(User.class, employeeId);
+                for (int i = offset; i < offset + ROWS_PER_TRANSACTION; i++) {
+                    TravelRequest request = BenchmarkData.travelRequest(i, employee);
+                    request.setId(null);
+                    entityManager.persist(request);
+                }
+                entityManager.getTransaction().commit();
+            } finally {
+                entityManager.close();
+            }
+        }
+    }
+}
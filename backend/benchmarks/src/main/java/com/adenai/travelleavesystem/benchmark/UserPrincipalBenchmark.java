@@ -0,0 +1,42 @@
+package com.adenai.travelleavesystem.benchmark;
+
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.security.UserPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+// Principal construction per request: from a loaded User, and from verified token claims (the stateless path)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class UserPrincipalBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkData.employee(101);
+    }
+
+    @Benchmark
+    public UserPrincipal createFromUser() {
+        return UserPrincipal.create(user);
+    }
+
+    @Benchmark
+    public UserPrincipal createFromClaims() {
+        return UserPrincipal.create(user.getId(), user.getEmail(), user.getRole().name(), user.getFirstName(), user.getLastName());
+    }
+}
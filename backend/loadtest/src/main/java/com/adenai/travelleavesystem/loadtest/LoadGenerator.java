@@ -0,0 +1,327 @@
+package com.adenai.travelleavesystem.loadtest;
+
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: requests are scheduled at a fixed arrival rate whether or not earlier ones have
+ * completed, and latency is measured from the scheduled send time, so a slow server shows up as latency
+ * instead of as a quietly lower request rate.
+ */
+class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final String PASSWORD = "loadtest123";
+
+    private static final int SEED_CHUNK_SIZE = 500;
+
+    private static final String[] CITIES = {"Pune", "Mumbai", "Bengaluru", "Delhi", "Chennai", "Hyderabad"};
+
+    private static final String[] TRANSPORT_MODES = {"Flight", "Train", "Bus", "Car"};
+
+    private final LoadTestOptions options;
+
+    private final String baseUrl;
+
+    private final HttpClient client;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Account> managers = new ArrayList<>();
+
+    private final List<Account> employees = new ArrayList<>();
+
+    // Requests created during the run and not yet decided, per approving manager
+    private final Map<Long, Queue<Long>> pendingByManager = new ConcurrentHashMap<>();
+
+    LoadGenerator(LoadTestOptions options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    static class Account {
+
+        final long id;
+
+        final Long managerId;
+
+        final String email;
+
+        volatile String token;
+
+        Account(long id, Long managerId, String email) {
+            this.id = id;
+            this.managerId = managerId;
+            this.email = email;
+        }
+    }
+
+    private static class Call {
+
+        final HttpRequest request;
+
+        // Set for creates: the new request joins this manager's pending queue
+        final Long approverId;
+
+        Call(HttpRequest request, Long approverId) {
+            this.request = request;
+            this.approverId = approverId;
+        }
+    }
+
+    // Fresh accounts for this run, written straight through the repository; emails are unique per run
+    void seed(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+        // One hash shared by every account, so seeding does not cost a bcrypt round per user
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        List<User> managerRows = new ArrayList<>();
+        for (int i = 1; i <= options.managers; i++) {
+            managerRows.add(user("lt-" + run + "-m" + i + "@gmail.com", "Manager" + i, Role.MANAGER, null, passwordHash));
+        }
+        for (User manager : userRepository.saveAll(managerRows)) {
+            managers.add(new Account(manager.getId(), null, manager.getEmail()));
+        }
+
+        List<User> employeeRows = new ArrayList<>();
+        for (int i = 1; i <= options.employees; i++) {
+            Long managerId = managers.get((i - 1) % managers.size()).id;
+            employeeRows.add(user("lt-" + run + "-e" + i + "@gmail.com", "Employee" + i, Role.EMPLOYEE, managerId, passwordHash));
+            if (employeeRows.size() == SEED_CHUNK_SIZE || i == options.employees) {
+                for (User employee : userRepository.saveAll(employeeRows)) {
+                    employees.add(new Account(employee.getId(), employee.getManagerId(), employee.getEmail()));
+                }
+                employeeRows.clear();
+            }
+        }
+        logger.info("Seeded {} managers and {} employees", managers.size(), employees.size());
+    }
+
+    void login() throws InterruptedException {
+        List<Account> accounts = new ArrayList<>(managers);
+        accounts.addAll(employees);
+        ExecutorService pool = Executors.newFixedThreadPool(options.loginParallelism);
+        try {
+            List<Future<?>> logins = new ArrayList<>();
+            for (Account account : accounts) {
+                logins.add(pool.submit(() -> {
+                    account.token = authenticate(account.email);
+                    return null;
+                }));
+            }
+            for (Future<?> login : logins) {
+                login.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Login failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        logger.info("Logged in {} accounts", accounts.size());
+    }
+
+    LoadReport run() throws InterruptedException {
+        Operation[] table = weightedTable();
+        Random random = new Random(options.seed);
+        LoadReport report = new LoadReport(options);
+        Semaphore inFlight = new Semaphore(options.maxInFlight);
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        logger.info("Driving {} req/s: {}s warmup, then {}s measured", options.rate, options.warmupSeconds, options.durationSeconds);
+
+        for (long i = 0; ; i++) {
+            long scheduled = start + (long) (i * 1_000_000_000d / options.rate);
+            if (scheduled >= end) {
+                break;
+            }
+            long delay = scheduled - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            boolean measured = scheduled >= measureFrom;
+            Operation operation = table[random.nextInt(table.length)];
+            Call call = prepare(operation, random, measured);
+            if (call == null) {
+                if (measured) {
+                    report.recordSkipped(operation);
+                }
+                continue;
+            }
+
+            // Blocking here delays later sends, but their latency still counts from the scheduled time
+            inFlight.acquire();
+            client.sendAsync(call.request, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+                try {
+                    long latency = System.nanoTime() - scheduled;
+                    if (error == null && response.statusCode() == 200 && call.approverId != null) {
+                        queuePending(call.approverId, response.body());
+                    }
+                    if (measured) {
+                        report.record(operation, latency, response, error);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        // Let the last requests finish so the tail is not cut off
+        if (!inFlight.tryAcquire(options.maxInFlight, 60, TimeUnit.SECONDS)) {
+            logger.warn("Requests still in flight 60s after the run ended; they are not in the report");
+        }
+        return report;
+    }
+
+    private Call prepare(Operation operation, Random random, boolean measured) {
+        switch (operation) {
+            case CREATE -> {
+                Account employee = employees.get(random.nextInt(employees.size()));
+                HttpRequest request = request("/api/travel", employee, operation, measured)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(createBody(random)))
+                        .build();
+                return new Call(request, employee.managerId);
+            }
+            case LIST_MINE -> {
+                Account employee = employees.get(random.nextInt(employees.size()));
+                return new Call(request("/api/travel/myrequests", employee, operation, measured).GET().build(), null);
+            }
+            case MANAGER_LIST -> {
+                Account manager = managers.get(random.nextInt(managers.size()));
+                return new Call(request("/api/travel/all?status=PENDING", manager, operation, measured).GET().build(), null);
+            }
+            case APPROVE, REJECT -> {
+                Account manager = managers.get(random.nextInt(managers.size()));
+                Queue<Long> pending = pendingByManager.get(manager.id);
+                Long requestId = pending != null ? pending.poll() : null;
+                if (requestId == null) {
+                    return null;
+                }
+                if (operation == Operation.APPROVE) {
+                    return new Call(request("/api/travel/" + requestId + "/approve", manager, operation, measured)
+                            .PUT(HttpRequest.BodyPublishers.noBody()).build(), null);
+                }
+                return new Call(request("/api/travel/" + requestId + "/reject", manager, operation, measured)
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString("{\"reason\":\"Rejected by load test\"}"))
+                        .build(), null);
+            }
+            default -> throw new IllegalStateException("Unhandled operation: " + operation);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, Account account, Operation operation, boolean measured) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + account.token);
+        // Only measured requests are tagged, so warmup statements stay out of the per-request SQL counts
+        if (measured) {
+            builder.header(SqlStatementCounter.OPERATION_HEADER, operation.getLabel());
+        }
+        return builder;
+    }
+
+    private String createBody(Random random) {
+        LocalDate fromDate = LocalDate.now().plusDays(30 + random.nextInt(300));
+        Map<String, String> body = new HashMap<>();
+        body.put("fromDate", fromDate.toString());
+        body.put("toDate", fromDate.plusDays(random.nextInt(4)).toString());
+        body.put("fromLocation", CITIES[random.nextInt(CITIES.length)]);
+        body.put("destination", CITIES[random.nextInt(CITIES.length)]);
+        body.put("modeOfTransport", TRANSPORT_MODES[random.nextInt(TRANSPORT_MODES.length)]);
+        body.put("purposeOfTravel", "Client workshop and quarterly planning");
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void queuePending(Long managerId, byte[] responseBody) {
+        try {
+            long requestId = objectMapper.readTree(responseBody).get("id").asLong();
+            pendingByManager.computeIfAbsent(managerId, id -> new ConcurrentLinkedQueue<>()).add(requestId);
+        } catch (IOException e) {
+            logger.warn("Could not read the id of a created request", e);
+        }
+    }
+
+    private String authenticate(String email) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", PASSWORD));
+        for (int attempt = 1; ; attempt++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200) {
+                return objectMapper.readTree(response.body()).get("token").asText();
+            }
+            // Rate limit or saturated password hashing pool: back off and retry
+            if ((response.statusCode() == 429 || response.statusCode() == 503) && attempt < 10) {
+                Thread.sleep(200L * attempt);
+                continue;
+            }
+            throw new IllegalStateException("Login of " + email + " failed with HTTP " + response.statusCode());
+        }
+    }
+
+    private Operation[] weightedTable() {
+        List<Operation> table = new ArrayList<>();
+        options.mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(operation);
+            }
+        });
+        return table.toArray(new Operation[0]);
+    }
+
+    private static User user(String email, String firstName, Role role, Long managerId, String passwordHash) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName("Loadtest");
+        user.setEmail(email);
+        user.setPassword(passwordHash);
+        user.setRole(role);
+        // Balance is never the limiting factor: creates must not start failing halfway through a run
+        user.setLeavesLeft(role == Role.EMPLOYEE ? 1_000_000 : 30);
+        user.setManagerId(managerId);
+        return user;
+    }
+}
@@ -0,0 +1,143 @@
+package com.adenai.travelleavesystem.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-operation latency histograms (microseconds), outcome counts and SQL statements, for the measured window only
+class LoadReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadReport.class);
+
+    private static final String ROW_FORMAT = "%-13s %-36s %9s %7s %8s %8s %8s %8s %8s %9s %8s%n";
+
+    private final LoadTestOptions options;
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    LoadReport(LoadTestOptions options) {
+        this.options = options;
+        for (Operation operation : options.mix.keySet()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    private static class OperationStats {
+
+        final Histogram latency = new ConcurrentHistogram(3);
+
+        final LongAdder errors = new LongAdder();
+
+        final LongAdder skipped = new LongAdder();
+
+        // Failure reason ("HTTP 500", exception name) to count
+        final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    }
+
+    void record(Operation operation, long latencyNanos, HttpResponse<byte[]> response, Throwable error) {
+        OperationStats operationStats = stats.get(operation);
+        operationStats.latency.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        String failure = error != null ? error.getClass().getSimpleName()
+                : response.statusCode() >= 400 ? "HTTP " + response.statusCode() : null;
+        if (failure != null) {
+            operationStats.errors.increment();
+            LongAdder count = operationStats.failures.computeIfAbsent(failure, key -> new LongAdder());
+            if (count.sum() == 0) {
+                logger.warn("First '{}' failure of {}: {}", failure, operation.getLabel(),
+                        error != null ? error.toString() : new String(response.body()));
+            }
+            count.increment();
+        }
+    }
+
+    // Approve/reject scheduled while the manager had nothing pending
+    void recordSkipped(Operation operation) {
+        stats.get(operation).skipped.increment();
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        out.printf(Locale.ROOT, "%d managers, %d employees; target %.1f req/s for %ds after %ds warmup (seed %d)%n",
+                options.managers, options.employees, options.rate, options.durationSeconds, options.warmupSeconds, options.seed);
+        out.printf(Locale.ROOT, "Latency in ms from the scheduled send time; %d CPUs and %d MB max heap shared by server and load generator%n%n",
+                Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        out.printf(Locale.ROOT, ROW_FORMAT, "operation", "endpoint", "requests", "errors", "skipped",
+                "req/s", "p50", "p95", "p99", "max", "sql/req");
+
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        long allSkipped = 0;
+        long allStatements = 0;
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            all.add(operationStats.latency);
+            allErrors += operationStats.errors.sum();
+            allSkipped += operationStats.skipped.sum();
+            allStatements += SqlStatementCounter.count(entry.getKey());
+            printRow(out, entry.getKey().getLabel(), entry.getKey().getEndpoint(), operationStats.latency,
+                    operationStats.errors.sum(), operationStats.skipped.sum(), SqlStatementCounter.count(entry.getKey()));
+        }
+        printRow(out, "all", "", all, allErrors, allSkipped, allStatements);
+
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            entry.getValue().failures.forEach((failure, count) ->
+                    out.printf("%s: %s x%d%n", entry.getKey().getLabel(), failure, count.sum()));
+        }
+    }
+
+    void writeCsv(Path path) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path))) {
+            writer.println("operation,endpoint,requests,errors,skipped,throughput,p50_ms,p95_ms,p99_ms,max_ms,sql_per_request");
+            for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+                OperationStats operationStats = entry.getValue();
+                Histogram latency = operationStats.latency;
+                long requests = latency.getTotalCount();
+                writer.printf(Locale.ROOT, "%s,\"%s\",%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f%n",
+                        entry.getKey().getLabel(), entry.getKey().getEndpoint(), requests,
+                        operationStats.errors.sum(), operationStats.skipped.sum(), throughput(requests),
+                        percentile(latency, 50), percentile(latency, 95), percentile(latency, 99), millis(latency.getMaxValue()),
+                        perRequest(SqlStatementCounter.count(entry.getKey()), requests));
+            }
+        }
+    }
+
+    private void printRow(PrintStream out, String label, String endpoint, Histogram latency, long errors, long skipped, long statements) {
+        long requests = latency.getTotalCount();
+        out.printf(Locale.ROOT, ROW_FORMAT, label, endpoint, requests, errors, skipped,
+                String.format(Locale.ROOT, "%.1f", throughput(requests)),
+                String.format(Locale.ROOT, "%.1f", percentile(latency, 50)),
+                String.format(Locale.ROOT, "%.1f", percentile(latency, 95)),
+                String.format(Locale.ROOT, "%.1f", percentile(latency, 99)),
+                String.format(Locale.ROOT, "%.1f", millis(latency.getMaxValue())),
+                String.format(Locale.ROOT, "%.2f", perRequest(statements, requests)));
+    }
+
+    private double throughput(long requests) {
+        return (double) requests / options.durationSeconds;
+    }
+
+    private static double percentile(Histogram latency, double percentile) {
+        return latency.getTotalCount() == 0 ? 0 : millis(latency.getValueAtPercentile(percentile));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000d;
+    }
+
+    private static double perRequest(long statements, long requests) {
+        return requests == 0 ? 0 : (double) statements / requests;
+    }
+}
@@ -0,0 +1,69 @@
+package com.adenai.travelleavesystem.loadtest;
+
+import com.adenai.travelleavesystem.TravelLeaveSystemApplication;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Boots the backend in this JVM (embedded database unless told otherwise), seeds fresh managers and
+ * employees, logs them all in and drives the request mix at the target rate. Run from backend/loadtest:
+ * mvn -B spring-boot:run -Dspring-boot.run.arguments="--rate=100 --duration=120"
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        // Harness defaults, then anything given on the command line; passed as arguments so they beat application.properties
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "embedded");
+        properties.put("server.port", "0");
+        properties.put("app.rate-limit.enabled", "false");
+        properties.put("spring.jpa.properties.hibernate.session_factory.statement_inspector", SqlStatementCounter.class.getName());
+        // application.properties turns on debug logging, which would dominate the latencies being measured
+        properties.put("debug", "false");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.com.adenai.travelleavesystem", "WARN");
+        properties.put("logging.level.com.adenai.travelleavesystem.loadtest", "INFO");
+        properties.put("logging.level.org.springframework.boot.autoconfigure", "WARN");
+        properties.put("logging.level.org.springframework.context", "WARN");
+        properties.putAll(options.applicationProperties);
+        List<String> applicationArgs = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.toList());
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TravelLeaveSystemApplication.class, LoadTestMain.class)
+                .run(applicationArgs.toArray(new String[0]));
+        try {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadGenerator generator = new LoadGenerator(options, "http://localhost:" + port);
+            generator.seed(context.getBean(UserRepository.class), context.getBean(PasswordEncoder.class));
+            generator.login();
+            LoadReport report = generator.run();
+            report.print(System.out);
+            if (options.report != null) {
+                report.writeCsv(Path.of(options.report));
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    // Outermost filter, so statements run by the security chain are attributed too
+    @Bean
+    public FilterRegistrationBean<SqlStatementCounter.Filter> sqlStatementCounterFilter() {
+        FilterRegistrationBean<SqlStatementCounter.Filter> registration = new FilterRegistrationBean<>(new SqlStatementCounter.Filter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
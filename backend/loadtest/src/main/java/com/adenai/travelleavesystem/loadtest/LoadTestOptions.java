@@ -0,0 +1,100 @@
+package com.adenai.travelleavesystem.loadtest;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line of the load test. Harness options are plain --name=value; anything else of the form
+ * --some.property=value (containing a dot) is passed to the application, e.g. --spring.profiles.active=...
+ * to run against a local MySQL instead of the embedded database.
+ */
+class LoadTestOptions {
+
+    private static final String DEFAULT_MIX = "create=30,list-mine=30,manager-list=20,approve=10,reject=10";
+
+    int managers = 5;
+
+    int employees = 100;
+
+    // Target arrival rate in requests per second, independent of how fast responses come back
+    double rate = 50;
+
+    int warmupSeconds = 10;
+
+    int durationSeconds = 60;
+
+    int maxInFlight = 256;
+
+    int loginParallelism = 4;
+
+    long seed = 42;
+
+    Map<Operation, Integer> mix = parseMix(DEFAULT_MIX);
+
+    String report;
+
+    final Map<String, String> applicationProperties = new LinkedHashMap<>();
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "managers" -> options.managers = positive(name, Integer.parseInt(value));
+                case "employees" -> options.employees = positive(name, Integer.parseInt(value));
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "duration" -> options.durationSeconds = positive(name, Integer.parseInt(value));
+                case "max-in-flight" -> options.maxInFlight = positive(name, Integer.parseInt(value));
+                case "login-parallelism" -> options.loginParallelism = positive(name, Integer.parseInt(value));
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "mix" -> options.mix = parseMix(value);
+                case "report" -> options.report = value;
+                default -> {
+                    if (name.indexOf('.') < 0) {
+                        throw new IllegalArgumentException("Unknown option: --" + name);
+                    }
+                    options.applicationProperties.put(name, value);
+                }
+            }
+        }
+        if (options.rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        return options;
+    }
+
+    // "create=30,list-mine=30,...": relative weights, operations left out are not sent
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + entry);
+            }
+            if (weight > 0) {
+                mix.put(Operation.of(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one operation");
+        }
+        return mix;
+    }
+
+    private static int positive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return value;
+    }
+}
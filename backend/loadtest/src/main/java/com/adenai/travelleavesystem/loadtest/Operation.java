@@ -0,0 +1,36 @@
+package com.adenai.travelleavesystem.loadtest;
+
+// The request mix, mirroring what the frontend calls (see frontend/src/services/api.ts)
+enum Operation {
+    CREATE("create", "POST /api/travel"),
+    LIST_MINE("list-mine", "GET /api/travel/myrequests"),
+    MANAGER_LIST("manager-list", "GET /api/travel/all?status=PENDING"),
+    APPROVE("approve", "PUT /api/travel/{id}/approve"),
+    REJECT("reject", "PUT /api/travel/{id}/reject");
+
+    private final String label;
+
+    private final String endpoint;
+
+    Operation(String label, String endpoint) {
+        this.label = label;
+        this.endpoint = endpoint;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    static Operation of(String label) {
+        for (Operation operation : values()) {
+            if (operation.label.equalsIgnoreCase(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + label);
+    }
+}
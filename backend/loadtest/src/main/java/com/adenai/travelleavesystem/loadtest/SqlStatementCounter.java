@@ -0,0 +1,61 @@
+package com.adenai.travelleavesystem.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements Hibernate prepares, attributed to the load-test operation named in the
+ * X-Load-Op header of the request being served. Hibernate instantiates the inspector itself
+ * (hibernate.session_factory.statement_inspector), so the counts are static. Statements served from the
+ * second-level cache are never prepared and so are not counted; a JDBC batch counts once.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    static final String OPERATION_HEADER = "X-Load-Op";
+
+    private static final ThreadLocal<String> CURRENT_OPERATION = new ThreadLocal<>();
+
+    private static final Map<String, LongAdder> COUNTS = new ConcurrentHashMap<>();
+
+    @Override
+    public String inspect(String sql) {
+        String operation = CURRENT_OPERATION.get();
+        if (operation != null) {
+            COUNTS.computeIfAbsent(operation, key -> new LongAdder()).increment();
+        }
+        return sql;
+    }
+
+    static long count(Operation operation) {
+        LongAdder count = COUNTS.get(operation.getLabel());
+        return count != null ? count.sum() : 0;
+    }
+
+    // Binds the request thread to the operation named by the client for the duration of the request
+    static class Filter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            String operation = request.getHeader(OPERATION_HEADER);
+            if (operation == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            CURRENT_OPERATION.set(operation);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                CURRENT_OPERATION.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.adenai.travelleavesystem.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replication lag with a heartbeat: each check stamps replica_heartbeat on the primary and reads
+ * the stamp back from the replica. The replica is used only while that gap is within the configured limit
+ * and is treated as unusable until the first successful check, or whenever it cannot be reached.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate primaryJdbcTemplate;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    private final Duration maxLag;
+
+    private volatile long lagMillis = -1;
+
+    private volatile boolean replicaUsable;
+
+    private volatile long checkedAtNanos;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+        TimeGauge.builder("datasource.replica.lag", this, TimeUnit.MILLISECONDS, monitor -> monitor.lagMillis)
+                .description("Replication lag seen by the last heartbeat check, -1 when the replica was unreachable")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    // A verdict older than the lag limit is ignored, so a stalled check cannot keep reads on a replica that fell behind
+    public boolean isReplicaUsable() {
+        return replicaUsable && System.nanoTime() - checkedAtNanos <= maxLag.toNanos();
+    }
+
+    // Instances compare timestamps written by each other, so their clocks are assumed to be NTP-synced
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT1S}")
+    public void checkLag() {
+        try {
+            primaryJdbcTemplate.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1",
+                    Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DataAccessException e) {
+            // Nothing to compare against; keep the last verdict, writes are failing anyway
+            logger.warn("Could not write replica heartbeat on the primary: {}", e.getMessage());
+            return;
+        }
+
+        boolean usable;
+        try {
+            Timestamp beat = replicaJdbcTemplate.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Timestamp.class);
+            lagMillis = Math.max(0, Duration.between(beat.toLocalDateTime(), LocalDateTime.now()).toMillis());
+            usable = lagMillis <= maxLag.toMillis();
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            usable = false;
+        }
+
+        boolean firstCheck = checkedAtNanos == 0;
+        checkedAtNanos = System.nanoTime();
+        if (usable != replicaUsable || firstCheck) {
+            if (usable) {
+                logger.info("Replica lag {} ms is within {}; routing read-only transactions to the replica", lagMillis, maxLag);
+            } else {
+                logger.warn("Replica unusable (lag {} ms, limit {}); routing all transactions to the primary", lagMillis, maxLag);
+            }
+            replicaUsable = usable;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.adenai.travelleavesystem.config;
 
+import com.adenai.travelleavesystem.security.CalibratedPasswordEncoder;
 import com.adenai.travelleavesystem.security.CustomUserDetailsService;
 import com.adenai.travelleavesystem.security.JwtAuthenticationFilter;
+import com.adenai.travelleavesystem.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -13,34 +17,74 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
+import java.util.Base64;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    public static final String[] PUBLIC_PATHS = {"/", "/health", "/actuator/health", "/api/auth/**"};
+
     @Autowired
     CustomUserDetailsService customUserDetailsService;
 
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
 
+    @Value("${app.security.bcrypt.calibrate:true}")
+    private boolean calibrateBcrypt;
+
+    @Value("${app.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${app.security.bcrypt.target-min-ms:50}")
+    private long bcryptTargetMinMs;
+
+    @Value("${app.security.bcrypt.target-max-ms:100}")
+    private long bcryptTargetMaxMs;
+
+    @Value("${app.security.bcrypt.min-strength:8}")
+    private int bcryptMinStrength;
+
+    @Value("${app.security.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
+    @Value("${app.metrics.scrape-username:prometheus}")
+    private String metricsScrapeUsername;
+
+    @Value("${app.metrics.scrape-password:}")
+    private String metricsScrapePassword;
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter();
+    }
+
+    @Bean
+    public CalibratedPasswordEncoder passwordEncoder() {
+        if (!calibrateBcrypt) {
+            return new CalibratedPasswordEncoder(bcryptStrength);
+        }
+        return CalibratedPasswordEncoder.calibrate(bcryptTargetMinMs, bcryptTargetMaxMs, bcryptMinStrength, bcryptMaxStrength);
     }
 
     @Bean
@@ -58,12 +102,17 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        AuthorizationManager<RequestAuthorizationContext> metricsAccess = metricsScrapeAccess();
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
-                .requestMatchers("/", "/health", "/api/auth/**").permitAll()
-                .requestMatchers("/api/travel/all").hasRole("MANAGER")
+                // Async dispatches resume a request that was already authorized (streamed exports, async login);
+                // the JWT filter does not run on them, so re-checking would fail after the response is written
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers(PUBLIC_PATHS).permitAll()
+                .requestMatchers("/actuator/prometheus", "/actuator/metrics", "/actuator/metrics/**").access(metricsAccess)
+                .requestMatchers("/api/travel/all", "/api/travel/all/page").hasRole("MANAGER")
                 .requestMatchers("/api/travel/{id}/approve").hasRole("MANAGER")
                 .requestMatchers("/api/travel/{id}/reject").hasRole("MANAGER")
                 .anyRequest().authenticated()
@@ -71,10 +120,29 @@ public class SecurityConfig {
 
         http.authenticationProvider(authenticationProvider());
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(rateLimitFilter(), JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // Prometheus cannot log in, so it scrapes with the HTTP Basic credentials from app.metrics.*; managers can use their JWT
+    private AuthorizationManager<RequestAuthorizationContext> metricsScrapeAccess() {
+        AuthorizationManager<RequestAuthorizationContext> managers = AuthorityAuthorizationManager.hasRole("MANAGER");
+        if (!StringUtils.hasText(metricsScrapePassword)) {
+            return managers;
+        }
+        byte[] expected = ("Basic " + Base64.getEncoder().encodeToString(
+                (metricsScrapeUsername + ":" + metricsScrapePassword).getBytes(StandardCharsets.UTF_8)))
+                .getBytes(StandardCharsets.UTF_8);
+        return (authentication, context) -> {
+            String header = context.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+            if (header != null && MessageDigest.isEqual(expected, header.getBytes(StandardCharsets.UTF_8))) {
+                return new AuthorizationDecision(true);
+            }
+            return managers.check(authentication, context);
+        };
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -7,24 +7,24 @@ import com.adenai.travelleavesystem.dto.UserResponse;
 import com.adenai.travelleavesystem.model.Role;
 import com.adenai.travelleavesystem.model.User;
 import com.adenai.travelleavesystem.repository.UserRepository;
-import com.adenai.travelleavesystem.security.UserPrincipal;
-import com.adenai.travelleavesystem.security.JwtUtils;
+import com.adenai.travelleavesystem.security.RateLimitPolicies;
+import com.adenai.travelleavesystem.service.LoginService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,9 +35,6 @@ public class AuthController {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
 
-    @Autowired
-    AuthenticationManager authenticationManager;
-
     @Autowired
     UserRepository userRepository;
 
@@ -45,45 +42,52 @@ public class AuthController {
     PasswordEncoder passwordEncoder;
 
     @Autowired
-    JwtUtils jwtUtils;
-
-    @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            // First check if user exists
-            if (!userRepository.findByEmail(loginRequest.getEmail()).isPresent()) {
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "User not found");
-                error.put("message", "No user found with the provided email address");
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-            }
-
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            String jwt = jwtUtils.generateJwtToken(authentication);
-
-            UserPrincipal userDetails = (UserPrincipal) authentication.getPrincipal();
+    LoginService loginService;
 
-            return ResponseEntity.ok(new JwtResponse(jwt,
-                    userDetails.getId(),
-                    userDetails.getEmail(),
-                    userDetails.getFirstName(),
-                    userDetails.getLastName(),
-                    userDetails.getRole()));
+    @Autowired
+    RateLimitPolicies rateLimitPolicies;
 
-        } catch (BadCredentialsException e) {
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
+        // Per-IP limits apply in RateLimitFilter; the per-account limit needs the parsed body
+        long waitNanos = rateLimitPolicies.acquire(rateLimitPolicies.loginByEmail(), loginRequest.getEmail().toLowerCase());
+        if (waitNanos > 0) {
             Map<String, String> error = new HashMap<>();
-            error.put("error", "Authentication failed");
-            error.put("message", "Invalid password");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
-        } catch (AuthenticationException e) {
+            error.put("error", "Too many requests");
+            error.put("message", "Too many login attempts for this account, please retry later");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimitPolicies.retryAfterSeconds(waitNanos)))
+                    .body(error));
+        }
+
+        CompletableFuture<JwtResponse> login;
+        try {
+            login = loginService.authenticate(loginRequest.getEmail(), loginRequest.getPassword());
+        } catch (TaskRejectedException e) {
+            logger.warn("Login rejected, password hashing pool is saturated");
             Map<String, String> error = new HashMap<>();
-            error.put("error", "Authentication failed");
-            error.put("message", "Invalid credentials");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+            error.put("error", "Service busy");
+            error.put("message", "Too many concurrent logins, please retry shortly");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error));
         }
+
+        return login.handle((jwtResponse, ex) -> {
+            if (ex == null) {
+                return ResponseEntity.ok(jwtResponse);
+            }
+
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof UsernameNotFoundException) {
+                return createErrorResponse("User not found", "No user found with the provided email address", HttpStatus.UNAUTHORIZED);
+            }
+            if (cause instanceof BadCredentialsException) {
+                return createErrorResponse("Authentication failed", "Invalid password", HttpStatus.UNAUTHORIZED);
+            }
+            logger.error("Login failed for email: {}", loginRequest.getEmail(), cause);
+            return createErrorResponse("Authentication failed", "Invalid credentials", HttpStatus.UNAUTHORIZED);
+        });
     }
 
     // Public signup endpoint for initial setup (when no managers exist)
@@ -156,7 +160,7 @@ public class AuthController {
         }
     }
 
-    private ResponseEntity<?> createErrorResponse(String error, String message, HttpStatus status) {
+    private ResponseEntity<Map<String, String>> createErrorResponse(String error, String message, HttpStatus status) {
         Map<String, String> errorResponse = new HashMap<>();
         errorResponse.put("error", error);
         errorResponse.put("message", message);
@@ -0,0 +1,64 @@
+package com.adenai.travelleavesystem.controller;
+
+import com.adenai.travelleavesystem.security.UserPrincipal;
+import com.adenai.travelleavesystem.service.BulkImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+// CSV bodies are read straight from the request stream rather than bound, so uploads are never buffered whole
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportController.class);
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @PostMapping(value = "/users", consumes = {"text/csv", "text/plain"})
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> importUsers(HttpServletRequest request, Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        try (InputStream body = request.getInputStream()) {
+            return ResponseEntity.ok(bulkImportService.importUsers(body, userPrincipal.getId()));
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("Invalid import file", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IOException e) {
+            logger.warn("User import by manager {} aborted while reading the upload", userPrincipal.getId(), e);
+            return createErrorResponse("Import failed", "The upload could not be read", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PostMapping(value = "/travel-requests", consumes = {"text/csv", "text/plain"})
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> importTravelRequests(HttpServletRequest request, Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        try (InputStream body = request.getInputStream()) {
+            return ResponseEntity.ok(bulkImportService.importTravelRequests(body, userPrincipal.getId()));
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse("Invalid import file", e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IOException e) {
+            logger.warn("Travel request import by manager {} aborted while reading the upload", userPrincipal.getId(), e);
+            return createErrorResponse("Import failed", "The upload could not be read", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private ResponseEntity<Map<String, String>> createErrorResponse(String error, String message, HttpStatus status) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", error);
+        errorResponse.put("message", message);
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
@@ -1,17 +1,28 @@
 package com.adenai.travelleavesystem.controller;
 
+import com.adenai.travelleavesystem.dto.BulkDecisionRequest;
+import com.adenai.travelleavesystem.dto.BulkDecisionResponse;
 import com.adenai.travelleavesystem.dto.RejectRequest;
 import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.dto.TravelRequestFilter;
+import com.adenai.travelleavesystem.dto.TravelRequestPageResponse;
 import com.adenai.travelleavesystem.dto.TravelRequestResponse;
+import com.adenai.travelleavesystem.dto.TravelRequestSummaryResponse;
 import com.adenai.travelleavesystem.model.TravelRequestStatus;
 import com.adenai.travelleavesystem.security.UserPrincipal;
+import com.adenai.travelleavesystem.service.TravelRequestExportService;
 import com.adenai.travelleavesystem.service.TravelRequestService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -23,6 +34,9 @@ public class TravelRequestController {
     @Autowired
     private TravelRequestService travelRequestService;
 
+    @Autowired
+    private TravelRequestExportService travelRequestExportService;
+
     @PostMapping
     @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
     public ResponseEntity<TravelRequestResponse> createTravelRequest(
@@ -35,27 +49,95 @@ public class TravelRequestController {
 
     @GetMapping("/myrequests")
     @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
-    public ResponseEntity<List<TravelRequestResponse>> getMyRequests(Authentication authentication) {
+    public ResponseEntity<List<TravelRequestResponse>> getMyRequests(TravelRequestFilter filter, Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        try {
+            List<TravelRequestResponse> requests = travelRequestService.getEmployeeRequests(userPrincipal.getId(), filter);
+            return ResponseEntity.ok(requests);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/myrequests/page")
+    @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
+    public ResponseEntity<TravelRequestPageResponse> getMyRequestPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        List<TravelRequestResponse> requests = travelRequestService.getEmployeeRequests(userPrincipal.getId());
-        return ResponseEntity.ok(requests);
+        try {
+            return ResponseEntity.ok(travelRequestService.getEmployeeRequestPage(userPrincipal.getId(), cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/all")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<List<TravelRequestResponse>> getAllRequests(
+            TravelRequestFilter filter,
+            Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        try {
+            List<TravelRequestResponse> requests = travelRequestService.getManagerRequests(userPrincipal.getId(), filter);
+            return ResponseEntity.ok(requests);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/all/page")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<TravelRequestPageResponse> getAllRequestPage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        try {
+            TravelRequestStatus requestStatus = status != null ? TravelRequestStatus.valueOf(status.toUpperCase()) : null;
+            return ResponseEntity.ok(travelRequestService.getManagerRequestPage(userPrincipal.getId(), requestStatus, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Streams the caller's team history; the body is written after this method returns, row by row from the database
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportRequests(
+            @RequestParam(required = false) String format,
             @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
             Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        
-        List<TravelRequestResponse> requests;
-        if (status != null) {
-            TravelRequestStatus requestStatus = TravelRequestStatus.valueOf(status.toUpperCase());
-            requests = travelRequestService.getManagerRequestsByStatus(userPrincipal.getId(), requestStatus);
-        } else {
-            requests = travelRequestService.getManagerRequests(userPrincipal.getId());
+        TravelRequestExportService.Format exportFormat;
+        String exportStatus;
+        try {
+            exportFormat = TravelRequestExportService.Format.of(format);
+            exportStatus = status != null ? TravelRequestStatus.valueOf(status.toUpperCase()).name() : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
         }
-        return ResponseEntity.ok(requests);
+
+        StreamingResponseBody body = out -> travelRequestExportService.export(
+                userPrincipal.getId(), exportStatus, from, to, exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"travel-requests." + exportFormat.getExtension() + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<TravelRequestSummaryResponse> getSummary(Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return ResponseEntity.ok(travelRequestService.getManagerSummary(userPrincipal.getId()));
     }
 
     @GetMapping("/{id}")
@@ -94,4 +176,17 @@ public class TravelRequestController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<BulkDecisionResponse> decideBulk(
+            @Valid @RequestBody BulkDecisionRequest bulkRequest,
+            Authentication authentication) {
+        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        try {
+            return ResponseEntity.ok(travelRequestService.decideBulk(bulkRequest, userPrincipal.getId()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
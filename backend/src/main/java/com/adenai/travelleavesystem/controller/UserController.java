@@ -3,10 +3,12 @@ package com.adenai.travelleavesystem.controller;
 
 import com.adenai.travelleavesystem.repository.UserRepository;
 import com.adenai.travelleavesystem.security.UserPrincipal;
+import com.adenai.travelleavesystem.service.LeaveLedgerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import java.util.Map;
 
@@ -18,8 +20,12 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private LeaveLedgerService leaveLedgerService;
+
     @GetMapping("/{id}/leaves")
     @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
     public ResponseEntity<Map<String, Integer>> getUserLeaves(@PathVariable Long id, Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         
@@ -28,13 +34,14 @@ public class UserController {
             return ResponseEntity.status(403).build();
         }
 
-        return userRepository.findById(id)
-                .map(user -> ResponseEntity.ok(Map.of("leavesLeft", user.getLeavesLeft())))
+        return leaveLedgerService.getBalance(id)
+                .map(leavesLeft -> ResponseEntity.ok(Map.of("leavesLeft", leavesLeft)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/me")
     @PreAuthorize("hasRole('EMPLOYEE') or hasRole('MANAGER')")
+    @Transactional(readOnly = true)
     public ResponseEntity<Map<String, Object>> getCurrentUser(Authentication authentication) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
         return userRepository.findById(userPrincipal.getId())
@@ -45,7 +52,7 @@ public class UserController {
                         "lastName", user.getLastName(),
                         "email", user.getEmail(),
                         "role", user.getRole().name(),
-                        "leavesLeft", user.getLeavesLeft()
+                        "leavesLeft", leaveLedgerService.getBalance(user)
                     );
                     return ResponseEntity.ok(userInfo);
                 })
@@ -0,0 +1,47 @@
+package com.adenai.travelleavesystem.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+public class BulkDecisionRequest {
+    @NotEmpty(message = "At least one request id is required")
+    private List<Long> ids;
+
+    @NotNull(message = "Action is required")
+    private BulkAction action;
+
+    // Required when rejecting
+    private String reason;
+
+    public enum BulkAction {
+        APPROVE,
+        REJECT
+    }
+
+    public BulkDecisionRequest() {}
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public BulkAction getAction() {
+        return action;
+    }
+
+    public void setAction(BulkAction action) {
+        this.action = action;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
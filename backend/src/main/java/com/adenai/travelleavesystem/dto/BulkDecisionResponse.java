@@ -0,0 +1,83 @@
+package com.adenai.travelleavesystem.dto;
+
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import java.util.List;
+
+public class BulkDecisionResponse {
+    private List<Result> results;
+    private int succeeded;
+    private int failed;
+
+    // Outcome for one requested id; error is set only when the decision was not applied
+    public static class Result {
+        private Long id;
+        private TravelRequestStatus status;
+        private String error;
+
+        public Result() {}
+
+        public Result(Long id, TravelRequestStatus status, String error) {
+            this.id = id;
+            this.status = status;
+            this.error = error;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public TravelRequestStatus getStatus() {
+            return status;
+        }
+
+        public void setStatus(TravelRequestStatus status) {
+            this.status = status;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+
+    // Constructors
+    public BulkDecisionResponse() {}
+
+    public BulkDecisionResponse(List<Result> results) {
+        this.results = results;
+        this.failed = (int) results.stream().filter(result -> result.getError() != null).count();
+        this.succeeded = results.size() - failed;
+    }
+
+    // Getters and Setters
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+}
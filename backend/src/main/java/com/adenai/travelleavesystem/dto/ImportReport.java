@@ -0,0 +1,113 @@
+package com.adenai.travelleavesystem.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+    private long processed;
+    private long created;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    // One rejected row; key is the email identifying the row, when it could be read
+    public static class RowError {
+        private long line;
+        private String key;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long line, String key, String message) {
+            this.line = line;
+            this.key = key;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public void setKey(String key) {
+            this.key = key;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+
+    // Constructors
+    public ImportReport() {}
+
+    public void addProcessed() {
+        processed++;
+    }
+
+    public void addCreated(long count) {
+        created += count;
+    }
+
+    // Every failure is counted, but only the first maxErrors are listed so the report stays bounded
+    public void addError(long line, String key, String message, int maxErrors) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(line, key, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    // Getters and Setters
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
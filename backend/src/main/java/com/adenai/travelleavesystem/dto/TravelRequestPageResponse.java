@@ -0,0 +1,43 @@
+package com.adenai.travelleavesystem.dto;
+
+import java.util.List;
+
+public class TravelRequestPageResponse {
+    private List<TravelRequestResponse> requests;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Constructors
+    public TravelRequestPageResponse() {}
+
+    public TravelRequestPageResponse(List<TravelRequestResponse> requests, String nextCursor) {
+        this.requests = requests;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<TravelRequestResponse> getRequests() {
+        return requests;
+    }
+
+    public void setRequests(List<TravelRequestResponse> requests) {
+        this.requests = requests;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
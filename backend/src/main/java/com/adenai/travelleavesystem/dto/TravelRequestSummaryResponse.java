@@ -0,0 +1,51 @@
+package com.adenai.travelleavesystem.dto;
+
+public class TravelRequestSummaryResponse {
+    private long total;
+    private long pending;
+    private long approved;
+    private long rejected;
+
+    // Constructors
+    public TravelRequestSummaryResponse() {}
+
+    public TravelRequestSummaryResponse(long pending, long approved, long rejected) {
+        this.pending = pending;
+        this.approved = approved;
+        this.rejected = rejected;
+        this.total = pending + approved + rejected;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public void setPending(long pending) {
+        this.pending = pending;
+    }
+
+    public long getApproved() {
+        return approved;
+    }
+
+    public void setApproved(long approved) {
+        this.approved = approved;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+}
@@ -0,0 +1,65 @@
+package com.adenai.travelleavesystem.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Balance of a user after every ledger entry up to lastTransactionId
+@Entity
+@Table(name = "leave_balance_snapshots")
+public class LeaveBalanceSnapshot {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer balance;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private Long lastTransactionId;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    // Constructors
+    public LeaveBalanceSnapshot() {}
+
+    public LeaveBalanceSnapshot(Long userId, Integer balance, Long lastTransactionId) {
+        this.userId = userId;
+        this.balance = balance;
+        this.lastTransactionId = lastTransactionId;
+        this.takenAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Integer getBalance() {
+        return balance;
+    }
+
+    public void setBalance(Integer balance) {
+        this.balance = balance;
+    }
+
+    public Long getLastTransactionId() {
+        return lastTransactionId;
+    }
+
+    public void setLastTransactionId(Long lastTransactionId) {
+        this.lastTransactionId = lastTransactionId;
+    }
+
+    public LocalDateTime getTakenAt() {
+        return takenAt;
+    }
+
+    public void setTakenAt(LocalDateTime takenAt) {
+        this.takenAt = takenAt;
+    }
+}
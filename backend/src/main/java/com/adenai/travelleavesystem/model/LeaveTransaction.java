@@ -0,0 +1,79 @@
+package com.adenai.travelleavesystem.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+
+// Append-only leave ledger entry; days is signed (deductions are negative)
+@Entity
+@Table(name = "leave_transactions", indexes = {
+    @Index(name = "idx_leave_transactions_user", columnList = "user_id, id"),
+    @Index(name = "idx_leave_transactions_created", columnList = "created_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_leave_transactions_request_type", columnNames = {"travel_request_id", "type"})
+})
+public class LeaveTransaction {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 20, nullable = false, updatable = false)
+    private LeaveTransactionType type;
+
+    @NotNull
+    @Column(nullable = false, updatable = false)
+    private Integer days;
+
+    @Column(name = "travel_request_id", updatable = false)
+    private Long travelRequestId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public LeaveTransaction() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public LeaveTransaction(Long userId, LeaveTransactionType type, Integer days, Long travelRequestId) {
+        this();
+        this.userId = userId;
+        this.type = type;
+        this.days = days;
+        this.travelRequestId = travelRequestId;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LeaveTransactionType getType() {
+        return type;
+    }
+
+    public Integer getDays() {
+        return days;
+    }
+
+    public Long getTravelRequestId() {
+        return travelRequestId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
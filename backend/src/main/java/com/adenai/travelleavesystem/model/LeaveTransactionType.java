@@ -0,0 +1,7 @@
+package com.adenai.travelleavesystem.model;
+
+public enum LeaveTransactionType {
+    ACCRUAL,
+    DEDUCTION,
+    REVERSAL
+}
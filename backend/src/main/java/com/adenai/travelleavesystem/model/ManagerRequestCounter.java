@@ -0,0 +1,79 @@
+package com.adenai.travelleavesystem.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.io.Serializable;
+import java.util.Objects;
+
+// Number of requests in one status across all employees reporting to a manager
+@Entity
+@Table(name = "manager_request_counters")
+@IdClass(ManagerRequestCounter.Key.class)
+public class ManagerRequestCounter {
+    @Id
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 20)
+    private TravelRequestStatus status;
+
+    @Column(name = "request_count", nullable = false)
+    private Long requestCount;
+
+    // Constructors
+    public ManagerRequestCounter() {}
+
+    // Getters and Setters
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public TravelRequestStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TravelRequestStatus status) {
+        this.status = status;
+    }
+
+    public Long getRequestCount() {
+        return requestCount;
+    }
+
+    public void setRequestCount(Long requestCount) {
+        this.requestCount = requestCount;
+    }
+
+    public static class Key implements Serializable {
+        private Long managerId;
+        private TravelRequestStatus status;
+
+        public Key() {}
+
+        public Key(Long managerId, TravelRequestStatus status) {
+            this.managerId = managerId;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(managerId, key.managerId) && status == key.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(managerId, status);
+        }
+    }
+}
@@ -3,15 +3,23 @@ package com.adenai.travelleavesystem.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "travel_requests")
+@Table(name = "travel_requests", indexes = {
+    @Index(name = "idx_travel_requests_employee_created", columnList = "employee_id, created_at, id"),
+    @Index(name = "idx_travel_requests_employee_status_from", columnList = "employee_id, status, from_date"),
+    @Index(name = "idx_travel_requests_created", columnList = "created_at, id")
+})
 public class TravelRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "travel_requests_id")
+    @TableGenerator(name = "travel_requests_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "travel_requests", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,6 +51,8 @@ public class TravelRequest {
 
     @NotNull
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 20)
     private TravelRequestStatus status = TravelRequestStatus.PENDING;
 
     @Column(name = "days_requested")
@@ -0,0 +1,242 @@
+package com.adenai.travelleavesystem.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Denormalized copy of a travel request with employee and manager details, written by TravelRequestService
+// and read by every list endpoint without joins; the indexes match the list filters and their newest-first order
+@Entity
+@Table(name = "travel_request_views", indexes = {
+    @Index(name = "idx_travel_request_views_employee", columnList = "employee_id, created_at, request_id"),
+    @Index(name = "idx_travel_request_views_manager", columnList = "manager_id, created_at, request_id"),
+    @Index(name = "idx_travel_request_views_manager_status", columnList = "manager_id, status, created_at, request_id"),
+    @Index(name = "idx_travel_request_views_employee_status_from", columnList = "employee_id, status, from_date"),
+    @Index(name = "idx_travel_request_views_manager_from", columnList = "manager_id, from_date"),
+    @Index(name = "idx_travel_request_views_status", columnList = "status, created_at, request_id"),
+    @Index(name = "idx_travel_request_views_created", columnList = "created_at, request_id")
+})
+public class TravelRequestView implements Persistable<Long> {
+    @Id
+    @Column(name = "request_id")
+    private Long id;
+
+    // The id is copied from the request, so save() needs this to persist new rows without a lookup first
+    @Transient
+    private boolean isNew = true;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    @Column(name = "employee_first_name")
+    private String employeeFirstName;
+
+    @Column(name = "employee_last_name")
+    private String employeeLastName;
+
+    @Column(name = "manager_first_name")
+    private String managerFirstName;
+
+    @Column(name = "manager_email")
+    private String managerEmail;
+
+    @Column(name = "from_date")
+    private LocalDate fromDate;
+
+    @Column(name = "to_date")
+    private LocalDate toDate;
+
+    @Column(name = "from_location")
+    private String fromLocation;
+
+    private String destination;
+
+    @Column(name = "mode_of_transport")
+    private String modeOfTransport;
+
+    @Column(name = "purpose_of_travel", columnDefinition = "TEXT")
+    private String purposeOfTravel;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 20)
+    private TravelRequestStatus status;
+
+    @Column(name = "days_requested")
+    private Integer daysRequested;
+
+    @Column(name = "approved_at")
+    private LocalDateTime approvedAt;
+
+    @Column(name = "rejection_reason", columnDefinition = "TEXT")
+    private String rejectionReason;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public TravelRequestView() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public Long getManagerId() {
+        return managerId;
+    }
+
+    public void setManagerId(Long managerId) {
+        this.managerId = managerId;
+    }
+
+    public String getEmployeeFirstName() {
+        return employeeFirstName;
+    }
+
+    public void setEmployeeFirstName(String employeeFirstName) {
+        this.employeeFirstName = employeeFirstName;
+    }
+
+    public String getEmployeeLastName() {
+        return employeeLastName;
+    }
+
+    public void setEmployeeLastName(String employeeLastName) {
+        this.employeeLastName = employeeLastName;
+    }
+
+
+    public String getManagerFirstName() {
+        return managerFirstName;
+    }
+
+    public void setManagerFirstName(String managerFirstName) {
+        this.managerFirstName = managerFirstName;
+    }
+
+    public String getManagerEmail() {
+        return managerEmail;
+    }
+
+    public void setManagerEmail(String managerEmail) {
+        this.managerEmail = managerEmail;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public void setFromDate(LocalDate fromDate) {
+        this.fromDate = fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    public void setToDate(LocalDate toDate) {
+        this.toDate = toDate;
+    }
+
+    public String getFromLocation() {
+        return fromLocation;
+    }
+
+    public void setFromLocation(String fromLocation) {
+        this.fromLocation = fromLocation;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public String getModeOfTransport() {
+        return modeOfTransport;
+    }
+
+    public void setModeOfTransport(String modeOfTransport) {
+        this.modeOfTransport = modeOfTransport;
+    }
+
+    public String getPurposeOfTravel() {
+        return purposeOfTravel;
+    }
+
+    public void setPurposeOfTravel(String purposeOfTravel) {
+        this.purposeOfTravel = purposeOfTravel;
+    }
+
+    public TravelRequestStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TravelRequestStatus status) {
+        this.status = status;
+    }
+
+    public Integer getDaysRequested() {
+        return daysRequested;
+    }
+
+    public void setDaysRequested(Integer daysRequested) {
+        this.daysRequested = daysRequested;
+    }
+
+    public LocalDateTime getApprovedAt() {
+        return approvedAt;
+    }
+
+    public void setApprovedAt(LocalDateTime approvedAt) {
+        this.approvedAt = approvedAt;
+    }
+
+    public String getRejectionReason() {
+        return rejectionReason;
+    }
+
+    public void setRejectionReason(String rejectionReason) {
+        this.rejectionReason = rejectionReason;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
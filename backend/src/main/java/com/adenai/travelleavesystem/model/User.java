@@ -1,18 +1,30 @@
 package com.adenai.travelleavesystem.model;
 
+import com.adenai.travelleavesystem.security.UserPrincipalCacheInvalidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@EntityListeners(UserPrincipalCacheInvalidator.class)
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_manager", columnList = "manager_id")
+})
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = "id_generators", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -33,10 +45,12 @@ public class User {
 
     @NotNull
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 20)
     private Role role;
 
     @Column(name = "leaves_left")
-    private Integer leavesLeft = 30; // Default annual leave
+    private Integer leavesLeft = 30; // Opening balance; the current balance comes from the leave ledger
 
     @Column(name = "manager_id")
     private Long managerId;
@@ -0,0 +1,9 @@
+package com.adenai.travelleavesystem.repository;
+
+import com.adenai.travelleavesystem.model.LeaveBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LeaveBalanceSnapshotRepository extends JpaRepository<LeaveBalanceSnapshot, Long> {
+}
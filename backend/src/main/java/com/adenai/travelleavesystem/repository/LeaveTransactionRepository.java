@@ -0,0 +1,30 @@
+package com.adenai.travelleavesystem.repository;
+
+import com.adenai.travelleavesystem.model.LeaveTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LeaveTransactionRepository extends JpaRepository<LeaveTransaction, Long> {
+
+    // Per-user sum of entries newer than that user's snapshot (all entries when there is none), as [userId, sum]
+    @Query("SELECT t.userId, SUM(t.days) FROM LeaveTransaction t WHERE t.userId IN :userIds " +
+           "AND t.id > COALESCE((SELECT s.lastTransactionId FROM LeaveBalanceSnapshot s WHERE s.userId = t.userId), 0) " +
+           "GROUP BY t.userId")
+    List<Object[]> sumDeltasSinceSnapshot(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT MAX(t.id) FROM LeaveTransaction t WHERE t.createdAt < :cutoff")
+    Long findMaxIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT DISTINCT t.userId FROM LeaveTransaction t WHERE t.id <= :upToId " +
+           "AND t.id > COALESCE((SELECT s.lastTransactionId FROM LeaveBalanceSnapshot s WHERE s.userId = t.userId), 0)")
+    List<Long> findUserIdsWithEntriesAfterSnapshot(@Param("upToId") Long upToId);
+
+    @Query("SELECT COALESCE(SUM(t.days), 0) FROM LeaveTransaction t WHERE t.userId = :userId AND t.id > :afterId AND t.id <= :upToId")
+    Long sumDays(@Param("userId") Long userId, @Param("afterId") Long afterId, @Param("upToId") Long upToId);
+}
@@ -0,0 +1,47 @@
+package com.adenai.travelleavesystem.repository;
+
+import com.adenai.travelleavesystem.model.ManagerRequestCounter;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface ManagerRequestCounterRepository extends JpaRepository<ManagerRequestCounter, ManagerRequestCounter.Key> {
+
+    List<ManagerRequestCounter> findByManagerId(Long managerId);
+
+    // Single-statement upsert so the first request for a manager/status pair needs no separate insert path.
+    // Naming the table spares the second-level cache: an unscoped native write would evict every region.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "manager_request_counters"))
+    @Query(value = "INSERT INTO manager_request_counters (manager_id, status, request_count) VALUES (:managerId, :status, :delta) " +
+                   "ON DUPLICATE KEY UPDATE request_count = request_count + :delta", nativeQuery = true)
+    int adjust(@Param("managerId") Long managerId, @Param("status") String status, @Param("delta") long delta);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "manager_request_counters"))
+    @Query(value = "INSERT INTO manager_request_counters (manager_id, status, request_count) VALUES (:managerId, :status, :count) " +
+                   "ON DUPLICATE KEY UPDATE request_count = :count", nativeQuery = true)
+    int setCount(@Param("managerId") Long managerId, @Param("status") String status, @Param("count") long count);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ManagerRequestCounter c WHERE c.managerId = :managerId")
+    List<ManagerRequestCounter> findByManagerIdForUpdate(@Param("managerId") Long managerId);
+
+    // Plain aggregate reads: consistent reads on InnoDB, so they lock none of the scanned requests
+    @Query(value = "SELECT u.manager_id, tr.status, COUNT(*) FROM travel_requests tr JOIN users u ON u.id = tr.employee_id " +
+                   "WHERE u.manager_id IS NOT NULL GROUP BY u.manager_id, tr.status", nativeQuery = true)
+    List<Object[]> countRequestsByManagerAndStatus();
+
+    @Query(value = "SELECT tr.status, COUNT(*) FROM travel_requests tr JOIN users u ON u.id = tr.employee_id " +
+                   "WHERE u.manager_id = :managerId GROUP BY tr.status", nativeQuery = true)
+    List<Object[]> countRequestsByStatus(@Param("managerId") Long managerId);
+}
@@ -0,0 +1,52 @@
+package com.adenai.travelleavesystem.repository;
+
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// JDBC batches for multi-request decisions; each statement is sent once with one parameter set per id
+@Repository
+public class TravelRequestBatchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Same PENDING guard as TravelRequestRepository.decidePending, batched. The returned array holds the
+     * update count for each id in order: 1 when this call decided the request, 0 when it was no longer pending.
+     */
+    public int[] decidePending(List<Long> ids, TravelRequestStatus status, Long managerId, String rejectionReason,
+                               LocalDateTime decidedAt) {
+        Timestamp timestamp = Timestamp.valueOf(decidedAt);
+        return jdbcTemplate.batchUpdate(
+                "UPDATE travel_requests SET status = ?, approved_by = ?, approved_at = ?, rejection_reason = ?, updated_at = ? " +
+                "WHERE id = ? AND status = 'PENDING'",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setString(1, status.name());
+                    ps.setLong(2, managerId);
+                    ps.setTimestamp(3, timestamp);
+                    ps.setString(4, rejectionReason);
+                    ps.setTimestamp(5, timestamp);
+                    ps.setLong(6, id);
+                })[0];
+    }
+
+    public void updateViewDecisions(List<Long> ids, TravelRequestStatus status, String rejectionReason, LocalDateTime decidedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(decidedAt);
+        jdbcTemplate.batchUpdate(
+                "UPDATE travel_request_views SET status = ?, approved_at = ?, rejection_reason = ? WHERE request_id = ?",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setString(1, status.name());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setString(3, rejectionReason);
+                    ps.setLong(4, id);
+                });
+    }
+}
@@ -2,22 +2,52 @@ package com.adenai.travelleavesystem.repository;
 
 import com.adenai.travelleavesystem.model.TravelRequest;
 import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TravelRequestRepository extends JpaRepository<TravelRequest, Long> {
-    
-    List<TravelRequest> findByEmployeeId(Long employeeId);
-    
-    List<TravelRequest> findByStatus(TravelRequestStatus status);
-    
-    @Query("SELECT tr FROM TravelRequest tr JOIN tr.employee e WHERE e.managerId = :managerId")
-    List<TravelRequest> findByManagerId(@Param("managerId") Long managerId);
-    
-    @Query("SELECT tr FROM TravelRequest tr JOIN tr.employee e WHERE e.managerId = :managerId AND tr.status = :status")
-    List<TravelRequest> findByManagerIdAndStatus(@Param("managerId") Long managerId, @Param("status") TravelRequestStatus status);
+
+    @Query("SELECT tr FROM TravelRequest tr JOIN FETCH tr.employee WHERE tr.id = :id")
+    Optional<TravelRequest> findWithEmployeeById(@Param("id") Long id);
+
+    // Batches in id order for rebuilding the read model; the row locks keep decisions from interleaving with a batch
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tr FROM TravelRequest tr WHERE tr.id > :afterId ORDER BY tr.id")
+    List<TravelRequest> findBatchAfterForUpdate(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Requests without a read-model row, such as history from before the view table existed; reads only, locks nothing
+    @Query("SELECT tr.id FROM TravelRequest tr WHERE tr.id > :afterId " +
+           "AND NOT EXISTS (SELECT 1 FROM TravelRequestView v WHERE v.id = tr.id) ORDER BY tr.id")
+    List<Long> findUnprojectedIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Locking read of the owner: a plain SELECT first would fix an InnoDB REPEATABLE READ snapshot before the locks
+    @Query(value = "SELECT employee_id FROM travel_requests WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> findEmployeeIdForUpdate(@Param("id") Long id);
+
+    // Locks the rows in id order so concurrent bulk decisions always acquire them in the same sequence
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tr FROM TravelRequest tr WHERE tr.id IN :ids ORDER BY tr.id")
+    List<TravelRequest> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Status transition guarded in SQL: only one concurrent caller can move a request out of PENDING
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TravelRequest tr SET tr.status = :status, tr.approvedBy = :managerId, tr.approvedAt = :decidedAt, " +
+           "tr.rejectionReason = :rejectionReason, tr.updatedAt = :decidedAt " +
+           "WHERE tr.id = :id AND tr.status = com.adenai.travelleavesystem.model.TravelRequestStatus.PENDING")
+    int decidePending(@Param("id") Long id,
+                      @Param("status") TravelRequestStatus status,
+                      @Param("managerId") Long managerId,
+                      @Param("rejectionReason") String rejectionReason,
+                      @Param("decidedAt") LocalDateTime decidedAt);
 }
@@ -0,0 +1,59 @@
+package com.adenai.travelleavesystem.repository;
+
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.TravelRequestView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TravelRequestViewRepository extends JpaRepository<TravelRequestView, Long>, JpaSpecificationExecutor<TravelRequestView> {
+
+    List<TravelRequestView> findByStatusOrderByCreatedAtDescIdDesc(TravelRequestStatus status);
+
+    List<TravelRequestView> findAllByOrderByCreatedAtDescIdDesc();
+
+    // Keyset pages ordered newest first; the Pageable only carries the row limit, never an offset
+    @Query("SELECT v FROM TravelRequestView v WHERE v.employeeId = :employeeId " +
+           "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id)) " +
+           "ORDER BY v.createdAt DESC, v.id DESC")
+    List<TravelRequestView> findEmployeePageAfter(@Param("employeeId") Long employeeId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    @Query("SELECT v FROM TravelRequestView v WHERE v.managerId = :managerId " +
+           "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id)) " +
+           "ORDER BY v.createdAt DESC, v.id DESC")
+    List<TravelRequestView> findManagerPageAfter(@Param("managerId") Long managerId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    @Query("SELECT v FROM TravelRequestView v WHERE v.managerId = :managerId AND v.status = :status " +
+           "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id)) " +
+           "ORDER BY v.createdAt DESC, v.id DESC")
+    List<TravelRequestView> findManagerPageByStatusAfter(@Param("managerId") Long managerId,
+                                                         @Param("status") TravelRequestStatus status,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE TravelRequestView v SET v.status = :status, v.approvedAt = :decidedAt, v.rejectionReason = :rejectionReason " +
+           "WHERE v.id = :id")
+    int updateDecision(@Param("id") Long id,
+                       @Param("status") TravelRequestStatus status,
+                       @Param("decidedAt") LocalDateTime decidedAt,
+                       @Param("rejectionReason") String rejectionReason);
+
+    @Modifying
+    @Query("DELETE FROM TravelRequestView v WHERE NOT EXISTS (SELECT 1 FROM TravelRequest tr WHERE tr.id = v.id)")
+    int deleteOrphans();
+}
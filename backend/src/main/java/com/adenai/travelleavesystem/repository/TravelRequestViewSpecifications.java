@@ -0,0 +1,92 @@
+package com.adenai.travelleavesystem.repository;
+
+import com.adenai.travelleavesystem.dto.TravelRequestFilter;
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.TravelRequestView;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.Locale;
+import java.util.Map;
+
+// Criteria predicates for the list endpoints; equality filters come first so they line up with the view indexes
+public final class TravelRequestViewSpecifications {
+
+    // Public sort keys mapped to entity attributes; anything else is rejected rather than passed through
+    private static final Map<String, String> SORTABLE = Map.of(
+            "createdAt", "createdAt",
+            "fromDate", "fromDate",
+            "toDate", "toDate",
+            "destination", "destination",
+            "modeOfTransport", "modeOfTransport",
+            "status", "status",
+            "daysRequested", "daysRequested",
+            "employeeLastName", "employeeLastName");
+
+    private TravelRequestViewSpecifications() {}
+
+    public static Specification<TravelRequestView> forManager(Long managerId) {
+        return (root, query, cb) -> cb.equal(root.get("managerId"), managerId);
+    }
+
+    public static Specification<TravelRequestView> forEmployee(Long employeeId) {
+        return (root, query, cb) -> cb.equal(root.get("employeeId"), employeeId);
+    }
+
+    public static Specification<TravelRequestView> matching(TravelRequestFilter filter) {
+        Specification<TravelRequestView> spec = Specification.where(null);
+        if (filter == null) {
+            return spec;
+        }
+
+        if (filter.getEmployeeId() != null) {
+            spec = spec.and(forEmployee(filter.getEmployeeId()));
+        }
+        if (hasText(filter.getStatus())) {
+            TravelRequestStatus status = TravelRequestStatus.valueOf(filter.getStatus().trim().toUpperCase(Locale.ROOT));
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
+        }
+        if (hasText(filter.getModeOfTransport())) {
+            String mode = filter.getModeOfTransport().trim();
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("modeOfTransport"), mode));
+        }
+        if (hasText(filter.getDestination())) {
+            // Case-insensitive prefix match
+            String prefix = escapeLike(filter.getDestination().trim().toLowerCase(Locale.ROOT)) + "%";
+            spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("destination")), prefix, '\\'));
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        // Overlap with [from, to]: the trip starts on or before `to` and ends on or after `from`
+        if (filter.getTo() != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("fromDate"), filter.getTo()));
+        }
+        if (filter.getFrom() != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("toDate"), filter.getFrom()));
+        }
+        return spec;
+    }
+
+    // Defaults to newest first; id breaks ties so the order is stable
+    public static Sort sortOf(TravelRequestFilter filter) {
+        String sortBy = filter != null && hasText(filter.getSortBy()) ? filter.getSortBy().trim() : "createdAt";
+        String property = SORTABLE.get(sortBy);
+        if (property == null) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortBy);
+        }
+
+        Sort.Direction direction = Sort.Direction.DESC;
+        if (filter != null && hasText(filter.getSortDir())) {
+            direction = Sort.Direction.fromString(filter.getSortDir().trim());
+        }
+        return Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
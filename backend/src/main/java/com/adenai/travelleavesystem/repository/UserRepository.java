@@ -2,13 +2,50 @@ package com.adenai.travelleavesystem.repository;
 
 import com.adenai.travelleavesystem.model.User;
 import com.adenai.travelleavesystem.model.Role;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Cached query results are invalidated by Hibernate whenever the users table is written through JPA
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+
     Boolean existsByEmail(String email);
     Long countByRole(Role role);
+    List<User> findByEmailIn(Collection<String> emails);
+
+    // One set-based uniqueness check for a whole import chunk
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Serializes ledger appends for one user without writing to the users row itself
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<User> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Writes only the hash, and only if it is still the one that was verified. As a bulk update it also
+    // invalidates the users L2 region and cached queries, but skips entity listeners: callers evict the principal.
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash, u.updatedAt = :updatedAt WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldHash") String oldHash,
+                                  @Param("newHash") String newHash, @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,132 @@
+package com.adenai.travelleavesystem.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.regex.Matcher;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose work factor is chosen for the current machine. Every hash records its own
+ * algorithm version and cost ($2a$NN$...), so hashes made at an older cost keep verifying and are
+ * reported by upgradeEncoding for re-hashing at the current cost. Hash and verify times are published
+ * once the encoder is bound to a meter registry.
+ */
+public class CalibratedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalibratedPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+
+    private final BCryptPasswordEncoder delegate;
+
+    private Timer encodeTimer;
+
+    private Timer matchesTimer;
+
+    public CalibratedPasswordEncoder(int strength) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Picks the lowest cost whose hash time reaches targetMinMs. When that cost overshoots targetMaxMs
+     * the cost on either side of the window that lies closer to it wins. Each step doubles the work,
+     * so the probe stops as soon as the window is reached.
+     */
+    public static CalibratedPasswordEncoder calibrate(long targetMinMs, long targetMaxMs, int minStrength, int maxStrength) {
+        int chosen = maxStrength;
+        long previousMs = 0;
+        for (int cost = minStrength; cost <= maxStrength; cost++) {
+            long elapsedMs = measureHashMillis(cost);
+            logger.debug("BCrypt cost {} takes {} ms", cost, elapsedMs);
+            if (elapsedMs >= targetMinMs) {
+                boolean previousIsCloser = cost > minStrength
+                        && elapsedMs > targetMaxMs
+                        && targetMinMs - previousMs < elapsedMs - targetMaxMs;
+                chosen = previousIsCloser ? cost - 1 : cost;
+                break;
+            }
+            previousMs = elapsedMs;
+        }
+
+        logger.info("Calibrated BCrypt cost {} for a {}-{} ms target", chosen, targetMinMs, targetMaxMs);
+        return new CalibratedPasswordEncoder(chosen);
+    }
+
+    private static long measureHashMillis(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        encoder.encode("calibration-warmup");
+
+        // Best of three damps scheduler noise during startup
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-password");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = hashTimer(registry, "encode");
+        matchesTimer = hashTimer(registry, "matches");
+        Gauge.builder("bcrypt.cost", this, CalibratedPasswordEncoder::getStrength)
+                .description("Work factor new hashes are made with")
+                .register(registry);
+    }
+
+    private static Timer hashTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("bcrypt.hash")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        String encoded = delegate.encode(rawPassword);
+        record(encodeTimer, start);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        record(matchesTimer, start);
+        return matches;
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // True whenever the stored cost differs from the calibrated one, in either direction
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
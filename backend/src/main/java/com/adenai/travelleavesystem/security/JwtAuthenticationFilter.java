@@ -1,36 +1,57 @@
 package com.adenai.travelleavesystem.security;
 
+import com.adenai.travelleavesystem.config.SecurityConfig;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final RequestMatcher PUBLIC_PATHS = new OrRequestMatcher(
+            Arrays.stream(SecurityConfig.PUBLIC_PATHS)
+                    .map(path -> (RequestMatcher) new AntPathRequestMatcher(path))
+                    .toList());
+
     @Autowired
     private JwtUtils jwtUtils;
 
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    // When false every request re-reads the user from the database instead of trusting token claims
+    @Value("${app.jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PUBLIC_PATHS.matches(request);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtils.validateJwtToken(jwt)) {
-                String userEmail = jwtUtils.getEmailFromJwtToken(jwt);
+            Optional<JwtClaims> claims = StringUtils.hasText(jwt) ? jwtUtils.verifyJwtToken(jwt) : Optional.empty();
 
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(userEmail);
+            if (claims.isPresent()) {
+                UserDetails userDetails = loadPrincipal(claims.get());
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -44,6 +65,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadPrincipal(JwtClaims claims) {
+        // Tokens issued before names were embedded still resolve through the database
+        if (!statelessPrincipal || !claims.hasPrincipalDetails()) {
+            return customUserDetailsService.loadUserByUsername(claims.email());
+        }
+
+        return UserPrincipal.create(
+                claims.userId(),
+                claims.email(),
+                claims.role(),
+                claims.firstName(),
+                claims.lastName());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
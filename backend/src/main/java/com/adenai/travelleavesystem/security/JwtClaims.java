@@ -0,0 +1,25 @@
+package com.adenai.travelleavesystem.security;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+
+// Immutable view of a verified token, safe to share across requests
+public record JwtClaims(Long userId, String email, String role, String firstName, String lastName, Instant expiresAt) {
+
+    static JwtClaims from(Claims claims) {
+        Object userId = claims.get("userId");
+        Object role = claims.get("role");
+        return new JwtClaims(
+                userId != null ? ((Number) userId).longValue() : null,
+                claims.getSubject(),
+                role != null ? role.toString() : null,
+                claims.get("firstName", String.class),
+                claims.get("lastName", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    // Tokens issued before names were embedded cannot rebuild a full principal on their own
+    public boolean hasPrincipalDetails() {
+        return userId != null && role != null && firstName != null && lastName != null;
+    }
+}
@@ -1,80 +1,185 @@
 package com.adenai.travelleavesystem.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtils {
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private int jwtExpirationMs;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Key and parser are immutable and thread-safe, so they are built once
+    private Key signingKey;
+
+    private JwtParser jwtParser;
+
+    // Recently verified tokens keyed by SHA-256 of the token; entries expire with the token itself
+    private Cache<String, JwtClaims> verifiedTokens;
+
+    // One timer per outcome, so a cache hit and a full signature check are never averaged together
+    private Timer generationTimer;
+
+    private Timer cachedTimer;
+
+    private Timer verifiedTimer;
+
+    private Timer expiredTimer;
+
+    private Timer invalidTimer;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                        Instant expiresAt = claims.expiresAt() != null
+                                ? claims.expiresAt()
+                                : Instant.now().plusMillis(jwtExpirationMs);
+                        return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        generationTimer = Timer.builder("jwt.generation").register(meterRegistry);
+        cachedTimer = verificationTimer("cached");
+        verifiedTimer = verificationTimer("verified");
+        expiredTimer = verificationTimer("expired");
+        invalidTimer = verificationTimer("invalid");
+    }
+
+    private Timer verificationTimer(String result) {
+        return Timer.builder("jwt.verification")
+                .description("Bearer token checks; cached skips the signature check")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     public String generateJwtToken(Authentication authentication) {
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        return generateJwtToken((UserPrincipal) authentication.getPrincipal());
+    }
 
-        return Jwts.builder()
+    public String generateJwtToken(UserPrincipal userPrincipal) {
+        long start = System.nanoTime();
+        String token = Jwts.builder()
                 .setSubject((userPrincipal.getEmail()))
                 .claim("userId", userPrincipal.getId())
                 .claim("role", userPrincipal.getRole())
+                .claim("firstName", userPrincipal.getFirstName())
+                .claim("lastName", userPrincipal.getLastName())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
+        generationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
+    }
+
+    // Verifies the signature and expiry once and returns every claim the caller needs
+    public Optional<JwtClaims> verifyJwtToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        String cacheKey = hashToken(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+
+        Timer outcome = invalidTimer;
+        try {
+            JwtClaims claims = JwtClaims.from(jwtParser.parseClaimsJws(token).getBody());
+            verifiedTokens.put(cacheKey, claims);
+            outcome = verifiedTimer;
+            return Optional.of(claims);
+        } catch (ExpiredJwtException e) {
+            outcome = expiredTimer;
+            logger.debug("JWT token is expired: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.warn("Invalid JWT token: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.warn("JWT claims string is empty: {}", e.getMessage());
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        return Optional.empty();
     }
 
     public String getEmailFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
     }
 
     public Long getUserIdFromJwtToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
         return Long.parseLong(claims.get("userId").toString());
     }
 
     public String getRoleFromJwtToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
         return claims.get("role").toString();
     }
 
     public boolean validateJwtToken(String authToken) {
+        return verifyJwtToken(authToken).isPresent();
+    }
+
+    private static String hashToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
-            return true;
-        } catch (MalformedJwtException e) {
-            System.err.println("Invalid JWT token: " + e.getMessage());
-        } catch (ExpiredJwtException e) {
-            System.err.println("JWT token is expired: " + e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            System.err.println("JWT token is unsupported: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            System.err.println("JWT claims string is empty: " + e.getMessage());
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
-
-        return false;
     }
 }
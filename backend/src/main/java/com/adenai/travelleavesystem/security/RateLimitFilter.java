@@ -0,0 +1,65 @@
+package com.adenai.travelleavesystem.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+// Runs after JWT authentication so per-principal policies can key on the user id
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final RequestMatcher LOGIN = new AntPathRequestMatcher("/api/auth/login", "POST");
+
+    private static final RequestMatcher CREATE_REQUEST = new AntPathRequestMatcher("/api/travel", "POST");
+
+    private static final RequestMatcher MANAGER_LIST = new OrRequestMatcher(
+            new AntPathRequestMatcher("/api/travel/all", "GET"),
+            new AntPathRequestMatcher("/api/travel/all/**", "GET"));
+
+    @Autowired
+    private RateLimitPolicies rateLimitPolicies;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long waitNanos = 0;
+
+        if (LOGIN.matches(request)) {
+            waitNanos = rateLimitPolicies.acquire(rateLimitPolicies.loginByIp(), request.getRemoteAddr());
+        } else if (CREATE_REQUEST.matches(request)) {
+            waitNanos = acquireForPrincipal(rateLimitPolicies.requestCreation());
+        } else if (MANAGER_LIST.matches(request)) {
+            waitNanos = acquireForPrincipal(rateLimitPolicies.managerListReads());
+        }
+
+        if (waitNanos > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimitPolicies.retryAfterSeconds(waitNanos)));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Too many requests\",\"message\":\"Rate limit exceeded, please retry later\"}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Unauthenticated calls are rejected later by authorization, so they are not counted here
+    private long acquireForPrincipal(TokenBucketRateLimiter limiter) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return 0;
+        }
+        return rateLimitPolicies.acquire(limiter, principal.getId().toString());
+    }
+}
@@ -0,0 +1,83 @@
+package com.adenai.travelleavesystem.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+public class RateLimitPolicies {
+
+    private final boolean enabled;
+
+    private final TokenBucketRateLimiter loginByIp;
+
+    private final TokenBucketRateLimiter loginByEmail;
+
+    private final TokenBucketRateLimiter requestCreation;
+
+    private final TokenBucketRateLimiter managerListReads;
+
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitPolicies(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                             @Value("${app.rate-limit.max-buckets:100000}") int maxBuckets,
+                             @Value("${app.rate-limit.login-ip.capacity:20}") int loginIpCapacity,
+                             @Value("${app.rate-limit.login-ip.per-minute:20}") int loginIpPerMinute,
+                             @Value("${app.rate-limit.login-email.capacity:5}") int loginEmailCapacity,
+                             @Value("${app.rate-limit.login-email.per-minute:5}") int loginEmailPerMinute,
+                             @Value("${app.rate-limit.request-create.capacity:10}") int createCapacity,
+                             @Value("${app.rate-limit.request-create.per-minute:20}") int createPerMinute,
+                             @Value("${app.rate-limit.manager-list.capacity:30}") int listCapacity,
+                             @Value("${app.rate-limit.manager-list.per-minute:120}") int listPerMinute,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+        this.loginByIp = new TokenBucketRateLimiter("login-ip", loginIpCapacity, loginIpPerMinute, maxBuckets);
+        this.loginByEmail = new TokenBucketRateLimiter("login-email", loginEmailCapacity, loginEmailPerMinute, maxBuckets);
+        this.requestCreation = new TokenBucketRateLimiter("request-create", createCapacity, createPerMinute, maxBuckets);
+        this.managerListReads = new TokenBucketRateLimiter("manager-list", listCapacity, listPerMinute, maxBuckets);
+
+        for (TokenBucketRateLimiter limiter : List.of(loginByIp, loginByEmail, requestCreation, managerListReads)) {
+            Gauge.builder("rate_limit.buckets", limiter, TokenBucketRateLimiter::getBucketCount)
+                    .description("Keys currently tracked by the rate limiter")
+                    .tag("policy", limiter.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Returns 0 when the key may proceed, otherwise the nanoseconds until it may retry.
+     */
+    public long acquire(TokenBucketRateLimiter limiter, String key) {
+        if (!enabled) {
+            return 0;
+        }
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            meterRegistry.counter("rate_limit.rejected", "policy", limiter.getName()).increment();
+        }
+        return waitNanos;
+    }
+
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    public TokenBucketRateLimiter loginByIp() {
+        return loginByIp;
+    }
+
+    public TokenBucketRateLimiter loginByEmail() {
+        return loginByEmail;
+    }
+
+    public TokenBucketRateLimiter requestCreation() {
+        return requestCreation;
+    }
+
+    public TokenBucketRateLimiter managerListReads() {
+        return managerListReads;
+    }
+}
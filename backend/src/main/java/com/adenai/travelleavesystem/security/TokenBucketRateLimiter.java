@@ -0,0 +1,81 @@
+package com.adenai.travelleavesystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+
+/**
+ * In-memory token bucket per key. Each bucket is a single long (the GCRA "theoretical arrival time"),
+ * updated under one of a fixed set of striped locks, so a permit check allocates nothing once the key
+ * has been seen. A bucket untouched for one burst interval has fully refilled and expires on its own;
+ * past maxBuckets keys Caffeine evicts the least useful ones, which at worst resets a key's limit.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final String name;
+
+    private final long emissionIntervalNanos;
+
+    private final long burstNanos;
+
+    private final Cache<String, Bucket> buckets;
+
+    private final Object[] locks = new Object[STRIPES];
+
+    public TokenBucketRateLimiter(String name, int capacity, int tokensPerMinute, int maxBuckets) {
+        this.name = name;
+        this.emissionIntervalNanos = 60_000_000_000L / tokensPerMinute;
+        this.burstNanos = emissionIntervalNanos * capacity;
+        // Within one burst interval of its last permit a bucket is back to full, so expiry loses no state
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Takes one token for the key. Returns 0 when permitted, otherwise the nanoseconds until a token is available.
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, k -> new Bucket(now));
+        }
+
+        synchronized (lockFor(key)) {
+            long next = Math.max(bucket.theoreticalArrival, now) + emissionIntervalNanos;
+            long overshoot = next - now - burstNanos;
+            if (overshoot > 0) {
+                return overshoot;
+            }
+            bucket.theoreticalArrival = next;
+            return 0;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getBucketCount() {
+        return buckets.estimatedSize();
+    }
+
+    private Object lockFor(String key) {
+        return locks[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static final class Bucket {
+        long theoreticalArrival;
+
+        Bucket(long now) {
+            this.theoreticalArrival = now;
+        }
+    }
+}
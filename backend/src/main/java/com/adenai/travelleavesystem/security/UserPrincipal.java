@@ -44,6 +44,21 @@ public class UserPrincipal implements UserDetails {
         );
     }
 
+    // Built from verified token claims; carries no password since it never authenticates credentials
+    public static UserPrincipal create(Long id, String email, String role, String firstName, String lastName) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+
+        return new UserPrincipal(
+                id,
+                firstName,
+                lastName,
+                email,
+                null,
+                role,
+                authorities
+        );
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,67 @@
+package com.adenai.travelleavesystem.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Principals by email and by id, bounded in size and age; hit/miss/eviction counts are published as cache.* metrics
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, UserPrincipal> byEmail;
+
+    private final Cache<Long, UserPrincipal> byId;
+
+    public UserPrincipalCache(@Value("${app.security.principal-cache.max-size:50000}") long maxSize,
+                              @Value("${app.security.principal-cache.ttl:10m}") Duration ttl,
+                              MeterRegistry meterRegistry) {
+        this.byEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byEmail, "userPrincipalsByEmail");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "userPrincipalsById");
+    }
+
+    // A principal loaded through one key is also served through the other
+    public UserPrincipal getByEmail(String email, Supplier<UserPrincipal> loader) {
+        return byEmail.get(email, key -> {
+            UserPrincipal principal = loader.get();
+            byId.put(principal.getId(), principal);
+            return principal;
+        });
+    }
+
+    public UserPrincipal getById(Long id, Supplier<UserPrincipal> loader) {
+        return byId.get(id, key -> {
+            UserPrincipal principal = loader.get();
+            byEmail.put(principal.getEmail(), principal);
+            return principal;
+        });
+    }
+
+    public void evict(Long id, String email) {
+        if (id != null) {
+            UserPrincipal previous = byId.getIfPresent(id);
+            if (previous != null) {
+                byEmail.invalidate(previous.getEmail());
+            }
+            byId.invalidate(id);
+        }
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.adenai.travelleavesystem.security;
+
+import com.adenai.travelleavesystem.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// JPA entity listener on User; instantiated through Spring so every save path evicts stale principals
+public class UserPrincipalCacheInvalidator {
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        Long id = user.getId();
+        String email = user.getEmail();
+        userPrincipalCache.evict(id, email);
+
+        // Evict again once committed so a concurrent reader cannot re-cache the pre-commit row
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userPrincipalCache.evict(id, email);
+                }
+            });
+        }
+    }
+}
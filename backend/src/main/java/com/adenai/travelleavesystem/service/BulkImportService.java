@@ -0,0 +1,451 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.dto.ImportReport;
+import com.adenai.travelleavesystem.dto.SignupRequest;
+import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.TravelRequest;
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.TravelRequestRepository;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * CSV imports for onboarding a department: users first, then their travel history. The upload is parsed
+ * record by record and written in chunks, each chunk in its own transaction, so a large file never sits
+ * in memory and a bad row costs only its own line in the report. Rows committed before a failure stay
+ * committed; re-running the same file reports them as duplicates rather than creating them twice.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+
+    private static final List<String> USER_COLUMNS = List.of("first_name", "last_name", "email", "password");
+
+    private static final List<String> REQUEST_COLUMNS = List.of("employee_email", "from_date", "to_date",
+            "from_location", "destination", "mode_of_transport", "purpose_of_travel", "status");
+
+    private static final int DEFAULT_LEAVES = 30;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TravelRequestRepository travelRequestRepository;
+
+    @Autowired
+    private TravelRequestSummaryService travelRequestSummaryService;
+
+    @Autowired
+    private TravelRequestViewService travelRequestViewService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${app.import.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.import.hash-parallelism:0}")
+    private int hashParallelism;
+
+    @Value("${app.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    private static class UserRow {
+        final long line;
+        final User user;
+        String rawPassword;
+
+        UserRow(long line, User user, String rawPassword) {
+            this.line = line;
+            this.user = user;
+            this.rawPassword = rawPassword;
+        }
+    }
+
+    private static class RequestRow {
+        final long line;
+        final String employeeEmail;
+        final TravelRequest request;
+
+        RequestRow(long line, String employeeEmail, TravelRequest request) {
+            this.line = line;
+            this.employeeEmail = employeeEmail;
+            this.request = request;
+        }
+    }
+
+    /**
+     * Columns: first_name, last_name, email, password, and optionally role and leaves_left (default 30).
+     * Every imported user is an employee reporting to the importing manager; a row with any other role
+     * is rejected, so an import can never grant manager rights.
+     */
+    public ImportReport importUsers(InputStream input, Long managerId) throws IOException {
+        ImportReport report = new ImportReport();
+        Set<String> seenEmails = new HashSet<>();
+        List<UserRow> chunk = new ArrayList<>(chunkSize);
+
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = readHeader(reader, USER_COLUMNS);
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                report.addProcessed();
+                long line = reader.getRecordLine();
+                String email = normalizeEmail(column(record, header, "email"));
+                try {
+                    UserRow row = parseUser(line, record, header, managerId);
+                    if (!seenEmails.add(email)) {
+                        throw new IllegalArgumentException("Duplicate email earlier in the file");
+                    }
+                    chunk.add(row);
+                } catch (IllegalArgumentException e) {
+                    report.addError(line, email, e.getMessage(), maxReportedErrors);
+                }
+                if (chunk.size() >= chunkSize) {
+                    writeUsers(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        writeUsers(chunk, report);
+        report.getErrors().sort(Comparator.comparingLong(ImportReport.RowError::getLine));
+
+        logger.info("User import by manager {}: {} rows, {} created, {} failed",
+                managerId, report.getProcessed(), report.getCreated(), report.getFailed());
+        return report;
+    }
+
+    /**
+     * Columns: employee_email, from_date, to_date, from_location, destination, mode_of_transport,
+     * purpose_of_travel, status, and optionally rejection_reason and created_at (ISO date or date-time).
+     * Employees must already exist and report to the importing manager. Imported history posts no ledger
+     * deductions: the leaves_left given at user import is the balance after that history.
+     */
+    public ImportReport importTravelRequests(InputStream input, Long managerId) throws IOException {
+        ImportReport report = new ImportReport();
+        List<RequestRow> chunk = new ArrayList<>(chunkSize);
+
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = readHeader(reader, REQUEST_COLUMNS);
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                report.addProcessed();
+                long line = reader.getRecordLine();
+                try {
+                    chunk.add(parseRequest(line, record, header, managerId));
+                } catch (IllegalArgumentException e) {
+                    report.addError(line, normalizeEmail(column(record, header, "employee_email")), e.getMessage(), maxReportedErrors);
+                }
+                if (chunk.size() >= chunkSize) {
+                    writeRequests(chunk, managerId, report);
+                    chunk.clear();
+                }
+            }
+        }
+        writeRequests(chunk, managerId, report);
+        report.getErrors().sort(Comparator.comparingLong(ImportReport.RowError::getLine));
+
+        logger.info("Travel request import by manager {}: {} rows, {} created, {} failed",
+                managerId, report.getProcessed(), report.getCreated(), report.getFailed());
+        return report;
+    }
+
+    private void writeUsers(List<UserRow> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                chunk.stream().map(row -> row.user.getEmail()).collect(Collectors.toList())));
+        List<UserRow> rows = new ArrayList<>(chunk.size());
+        for (UserRow row : chunk) {
+            if (existing.contains(row.user.getEmail())) {
+                report.addError(row.line, row.user.getEmail(), "A user with this email address already exists", maxReportedErrors);
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        hashPasswords(rows);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.saveAll(rows.stream().map(row -> row.user).collect(Collectors.toList())));
+            report.addCreated(rows.size());
+        } catch (DataIntegrityViolationException e) {
+            // Another writer took one of the emails after the check; retry row by row to isolate it
+            for (UserRow row : rows) {
+                row.user.setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.save(row.user));
+                    report.addCreated(1);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    report.addError(row.line, row.user.getEmail(), "A user with this email address already exists", maxReportedErrors);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hashes a chunk on the shared bcrypt pool, keeping at most hashParallelism tasks in flight so logins
+     * still find room on it. A hash the pool turns away runs on the importing thread instead.
+     */
+    private void hashPasswords(List<UserRow> rows) {
+        int permits = hashParallelism > 0 ? hashParallelism : Math.max(1, passwordHashExecutor.getMaxPoolSize() / 2);
+        Semaphore inFlight = new Semaphore(permits);
+        List<CompletableFuture<Void>> hashes = new ArrayList<>(rows.size());
+
+        for (UserRow row : rows) {
+            inFlight.acquireUninterruptibly();
+            Runnable hash = () -> {
+                row.user.setPassword(passwordEncoder.encode(row.rawPassword));
+                row.rawPassword = null;
+            };
+            try {
+                hashes.add(CompletableFuture.runAsync(hash, passwordHashExecutor)
+                        .whenComplete((result, ex) -> inFlight.release()));
+            } catch (TaskRejectedException e) {
+                inFlight.release();
+                hash.run();
+            }
+        }
+        CompletableFuture.allOf(hashes.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void writeRequests(List<RequestRow> chunk, Long managerId, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Map<String, User> employees = userRepository.findByEmailIn(chunk.stream()
+                        .map(row -> row.employeeEmail)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+        List<RequestRow> rows = new ArrayList<>(chunk.size());
+        for (RequestRow row : chunk) {
+            User employee = employees.get(row.employeeEmail);
+            if (employee == null) {
+                report.addError(row.line, row.employeeEmail, "No user found with this email address", maxReportedErrors);
+            } else if (!managerId.equals(employee.getManagerId())) {
+                report.addError(row.line, row.employeeEmail, "Employee does not report to you", maxReportedErrors);
+            } else {
+                row.request.setEmployee(employee);
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveRequests(rows, managerId));
+            report.addCreated(rows.size());
+        } catch (DataIntegrityViolationException e) {
+            // Most likely an employee deleted mid-import; retry row by row to isolate it
+            for (RequestRow row : rows) {
+                row.request.setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> saveRequests(List.of(row), managerId));
+                    report.addCreated(1);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    report.addError(row.line, row.employeeEmail, "Could not save travel request", maxReportedErrors);
+                }
+            }
+        }
+    }
+
+    // Requests, read model rows and counters for a chunk commit together, as they do for a single request
+    private void saveRequests(List<RequestRow> rows, Long managerId) {
+        List<TravelRequest> requests = travelRequestRepository.saveAll(
+                rows.stream().map(row -> row.request).collect(Collectors.toList()));
+        travelRequestViewService.recordCreatedAll(requests);
+        Map<TravelRequestStatus, Long> counts = requests.stream()
+                .collect(Collectors.groupingBy(TravelRequest::getStatus, Collectors.counting()));
+        counts.forEach((status, count) -> travelRequestSummaryService.recordCreated(managerId, status, count));
+    }
+
+    private UserRow parseUser(long line, List<String> record, Map<String, Integer> header, Long managerId) {
+        SignupRequest signup = new SignupRequest();
+        signup.setFirstName(trim(column(record, header, "first_name")));
+        signup.setLastName(trim(column(record, header, "last_name")));
+        signup.setEmail(normalizeEmail(column(record, header, "email")));
+        signup.setPassword(column(record, header, "password"));
+        String role = trim(column(record, header, "role"));
+        signup.setRole(role == null || role.isEmpty() ? Role.EMPLOYEE.name() : role.toUpperCase(Locale.ROOT));
+        validate(signup);
+        if (!Role.EMPLOYEE.name().equals(signup.getRole())) {
+            throw new IllegalArgumentException("Only EMPLOYEE accounts can be imported");
+        }
+
+        String leaves = trim(column(record, header, "leaves_left"));
+        int leavesLeft = DEFAULT_LEAVES;
+        if (leaves != null && !leaves.isEmpty()) {
+            try {
+                leavesLeft = Integer.parseInt(leaves);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("leaves_left must be a whole number");
+            }
+            if (leavesLeft < 0) {
+                throw new IllegalArgumentException("leaves_left cannot be negative");
+            }
+        }
+
+        User user = new User();
+        user.setFirstName(signup.getFirstName());
+        user.setLastName(signup.getLastName());
+        user.setEmail(signup.getEmail());
+        user.setRole(Role.EMPLOYEE);
+        user.setLeavesLeft(leavesLeft);
+        user.setManagerId(managerId);
+        return new UserRow(line, user, signup.getPassword());
+    }
+
+    private RequestRow parseRequest(long line, List<String> record, Map<String, Integer> header, Long managerId) {
+        TravelRequestDto dto = new TravelRequestDto();
+        dto.setFromDate(parseDate(column(record, header, "from_date"), "from_date"));
+        dto.setToDate(parseDate(column(record, header, "to_date"), "to_date"));
+        dto.setFromLocation(trim(column(record, header, "from_location")));
+        dto.setDestination(trim(column(record, header, "destination")));
+        dto.setModeOfTransport(trim(column(record, header, "mode_of_transport")));
+        dto.setPurposeOfTravel(trim(column(record, header, "purpose_of_travel")));
+        validate(dto);
+        if (dto.getToDate().isBefore(dto.getFromDate())) {
+            throw new IllegalArgumentException("to_date cannot be before from_date");
+        }
+
+        TravelRequestStatus status;
+        try {
+            status = TravelRequestStatus.valueOf(trim(column(record, header, "status")).toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("status must be PENDING, APPROVED or REJECTED");
+        }
+
+        String createdAtValue = trim(column(record, header, "created_at"));
+        LocalDateTime createdAt = createdAtValue == null || createdAtValue.isEmpty()
+                ? LocalDateTime.now()
+                : parseDateTime(createdAtValue);
+
+        TravelRequest request = new TravelRequest();
+        request.setFromDate(dto.getFromDate());
+        request.setToDate(dto.getToDate());
+        request.setFromLocation(dto.getFromLocation());
+        request.setDestination(dto.getDestination());
+        request.setModeOfTransport(dto.getModeOfTransport());
+        request.setPurposeOfTravel(dto.getPurposeOfTravel());
+        request.setStatus(status);
+        request.calculateDaysRequested();
+        request.setCreatedAt(createdAt);
+        request.setUpdatedAt(createdAt);
+        if (status != TravelRequestStatus.PENDING) {
+            request.setApprovedBy(managerId);
+            request.setApprovedAt(createdAt);
+        }
+        if (status == TravelRequestStatus.REJECTED) {
+            request.setRejectionReason(trim(column(record, header, "rejection_reason")));
+        }
+        return new RequestRow(line, normalizeEmail(column(record, header, "employee_email")), request);
+    }
+
+    private Map<String, Integer> readHeader(CsvRecordReader reader, List<String> required) throws IOException {
+        List<String> record = reader.next();
+        if (record == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < record.size(); i++) {
+            header.putIfAbsent(record.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = required.stream().filter(name -> !header.containsKey(name)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing required columns: " + String.join(", ", missing));
+        }
+        return header;
+    }
+
+    private <T> void validate(T row) {
+        Set<ConstraintViolation<T>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private static String column(List<String> record, Map<String, Integer> header, String name) {
+        Integer index = header.get(name);
+        return index != null && index < record.size() ? record.get(index) : null;
+    }
+
+    private static String trim(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    private static String normalizeEmail(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static LocalDate parseDate(String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be an ISO date (yyyy-MM-dd)");
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("created_at must be an ISO date or date-time");
+        }
+    }
+}
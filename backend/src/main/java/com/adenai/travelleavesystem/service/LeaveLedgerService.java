@@ -0,0 +1,249 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.model.LeaveBalanceSnapshot;
+import com.adenai.travelleavesystem.model.LeaveTransaction;
+import com.adenai.travelleavesystem.model.LeaveTransactionType;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.LeaveBalanceSnapshotRepository;
+import com.adenai.travelleavesystem.repository.LeaveTransactionRepository;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Leave balances derived from the append-only leave_transactions ledger. A user's balance is their
+ * latest snapshot (or the opening balance stored on the user) plus every ledger entry after it.
+ * Materialized balances are cached and evicted once a new entry commits.
+ */
+@Service
+public class LeaveLedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaveLedgerService.class);
+
+    private final LeaveTransactionRepository leaveTransactionRepository;
+
+    private final LeaveBalanceSnapshotRepository leaveBalanceSnapshotRepository;
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Duration snapshotLag;
+
+    private final boolean replicaEnabled;
+
+    private final Cache<Long, Integer> balances;
+
+    public LeaveLedgerService(LeaveTransactionRepository leaveTransactionRepository,
+                              LeaveBalanceSnapshotRepository leaveBalanceSnapshotRepository,
+                              UserRepository userRepository,
+                              TransactionTemplate transactionTemplate,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${app.leave.balance-cache.max-size:50000}") long cacheMaxSize,
+                              @Value("${app.leave.balance-cache.ttl:10m}") Duration cacheTtl,
+                              @Value("${app.leave.snapshot.lag:1m}") Duration snapshotLag,
+                              @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                              MeterRegistry meterRegistry) {
+        this.leaveTransactionRepository = leaveTransactionRepository;
+        this.leaveBalanceSnapshotRepository = leaveBalanceSnapshotRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotLag = snapshotLag;
+        this.replicaEnabled = replicaEnabled;
+        this.balances = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, balances, "leaveBalances");
+    }
+
+    public Optional<Integer> getBalance(Long userId) {
+        if (mayReadReplica()) {
+            Integer cached = balances.getIfPresent(userId);
+            return cached != null
+                    ? Optional.of(cached)
+                    : userRepository.findById(userId).map(user -> computeBalances(List.of(user)).get(userId));
+        }
+        return Optional.ofNullable(balances.get(userId, id -> userRepository.findById(id)
+                .map(user -> computeBalances(List.of(user)).get(id))
+                .orElse(null)));
+    }
+
+    public int getBalance(User user) {
+        if (mayReadReplica()) {
+            Integer cached = balances.getIfPresent(user.getId());
+            return cached != null ? cached : computeBalances(List.of(user)).get(user.getId());
+        }
+        return balances.get(user.getId(), id -> computeBalances(List.of(user)).get(id));
+    }
+
+    // Resolves a whole result set with one snapshot lookup and one aggregate query for the cache misses
+    public Map<Long, Integer> getBalances(Collection<User> users) {
+        Map<Long, User> byId = users.stream()
+                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+        if (mayReadReplica()) {
+            Map<Long, Integer> result = new HashMap<>(balances.getAllPresent(byId.keySet()));
+            List<User> missing = byId.values().stream()
+                    .filter(user -> !result.containsKey(user.getId()))
+                    .collect(Collectors.toList());
+            if (!missing.isEmpty()) {
+                result.putAll(computeBalances(missing));
+            }
+            return result;
+        }
+        return balances.getAll(byId.keySet(), missing -> computeBalances(
+                missing.stream().map(byId::get).collect(Collectors.toList())));
+    }
+
+    // For rows that carry only the user id, such as read-model pages: cached balances first, one user lookup for the rest
+    public Map<Long, Integer> getBalancesByUserId(Collection<Long> userIds) {
+        Set<Long> missing = new HashSet<>(userIds);
+        Map<Long, Integer> result = new HashMap<>(balances.getAllPresent(missing));
+        missing.removeAll(result.keySet());
+        if (!missing.isEmpty()) {
+            result.putAll(getBalances(userRepository.findAllById(missing)));
+        }
+        return result;
+    }
+
+    // Bypasses the cache; use inside the transaction that is about to append to the ledger
+    public int getCurrentBalance(User user) {
+        return computeBalances(List.of(user)).get(user.getId());
+    }
+
+    public Map<Long, Integer> getCurrentBalances(Collection<User> users) {
+        return computeBalances(users);
+    }
+
+    public LeaveTransaction record(Long userId, LeaveTransactionType type, int days, Long travelRequestId) {
+        LeaveTransaction entry = leaveTransactionRepository.save(new LeaveTransaction(userId, type, days, travelRequestId));
+        evictAfterCommit(userId);
+        return entry;
+    }
+
+    // Appends many entries in one JDBC batch; IDENTITY ids would make Hibernate insert them one by one
+    public void recordAll(List<LeaveTransaction> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO leave_transactions (user_id, type, days, travel_request_id, created_at) VALUES (?, ?, ?, ?, ?)",
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setLong(1, entry.getUserId());
+                    ps.setString(2, entry.getType().name());
+                    ps.setInt(3, entry.getDays());
+                    ps.setObject(4, entry.getTravelRequestId());
+                    ps.setTimestamp(5, Timestamp.valueOf(entry.getCreatedAt()));
+                });
+        entries.stream().map(LeaveTransaction::getUserId).distinct().forEach(this::evictAfterCommit);
+    }
+
+    /**
+     * Folds ledger entries into per-user snapshots so balance reads only sum recent entries. Entries
+     * younger than the configured lag are left for the next run, since a transaction holding a lower
+     * id might not have committed yet.
+     */
+    @Scheduled(fixedDelayString = "${app.leave.snapshot.interval:PT1H}", initialDelayString = "${app.leave.snapshot.interval:PT1H}")
+    public void snapshotBalances() {
+        Long upToId = leaveTransactionRepository.findMaxIdCreatedBefore(LocalDateTime.now().minus(snapshotLag));
+        if (upToId == null) {
+            return;
+        }
+
+        List<Long> userIds = leaveTransactionRepository.findUserIdsWithEntriesAfterSnapshot(upToId);
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> snapshotUser(userId, upToId));
+        }
+        if (!userIds.isEmpty()) {
+            logger.info("Snapshotted leave balances for {} users up to ledger entry {}", userIds.size(), upToId);
+        }
+    }
+
+    private void snapshotUser(Long userId, Long upToId) {
+        Optional<LeaveBalanceSnapshot> existing = leaveBalanceSnapshotRepository.findById(userId);
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty()) {
+            return;
+        }
+
+        long afterId = existing.map(LeaveBalanceSnapshot::getLastTransactionId).orElse(0L);
+        int base = existing.map(LeaveBalanceSnapshot::getBalance).orElse(openingBalance(user.get()));
+        int balance = base + leaveTransactionRepository.sumDays(userId, afterId, upToId).intValue();
+
+        LeaveBalanceSnapshot snapshot = existing.orElseGet(LeaveBalanceSnapshot::new);
+        snapshot.setUserId(userId);
+        snapshot.setBalance(balance);
+        snapshot.setLastTransactionId(upToId);
+        snapshot.setTakenAt(LocalDateTime.now());
+        leaveBalanceSnapshotRepository.save(snapshot);
+    }
+
+    private Map<Long, Integer> computeBalances(Collection<User> users) {
+        Set<Long> userIds = users.stream().map(User::getId).collect(Collectors.toSet());
+        Map<Long, LeaveBalanceSnapshot> snapshots = leaveBalanceSnapshotRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(LeaveBalanceSnapshot::getUserId, Function.identity()));
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Object[] row : leaveTransactionRepository.sumDeltasSinceSnapshot(userIds)) {
+            deltas.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        Map<Long, Integer> result = new HashMap<>();
+        for (User user : users) {
+            LeaveBalanceSnapshot snapshot = snapshots.get(user.getId());
+            int base = snapshot != null ? snapshot.getBalance() : openingBalance(user);
+            result.put(user.getId(), base + deltas.getOrDefault(user.getId(), 0L).intValue());
+        }
+        return result;
+    }
+
+    // Read-only transactions may be served by a lagging replica; their balances are returned but not cached,
+    // so a stale value cannot outlive the lag
+    private boolean mayReadReplica() {
+        return replicaEnabled && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // users.leaves_left is the opening balance and is no longer updated in place
+    private int openingBalance(User user) {
+        return user.getLeavesLeft() != null ? user.getLeavesLeft() : 0;
+    }
+
+    private void evictAfterCommit(Long userId) {
+        balances.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    balances.invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.dto.JwtResponse;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import com.adenai.travelleavesystem.security.CustomUserDetailsService;
+import com.adenai.travelleavesystem.security.JwtUtils;
+import com.adenai.travelleavesystem.security.UserPrincipal;
+import com.adenai.travelleavesystem.security.UserPrincipalCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class LoginService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginService.class);
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
+    /**
+     * Looks the user up once on the calling thread and verifies the password on the hashing pool.
+     * Fails with UsernameNotFoundException or BadCredentialsException, and throws TaskRejectedException
+     * straight away when the pool is saturated.
+     */
+    public CompletableFuture<JwtResponse> authenticate(String email, String rawPassword) {
+        UserPrincipal principal;
+        try {
+            principal = (UserPrincipal) customUserDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            if (!passwordEncoder.matches(rawPassword, principal.getPassword())) {
+                throw new BadCredentialsException("Invalid password");
+            }
+            if (passwordEncoder.upgradeEncoding(principal.getPassword())) {
+                rehash(principal, rawPassword);
+            }
+
+            return new JwtResponse(jwtUtils.generateJwtToken(principal),
+                    principal.getId(),
+                    principal.getEmail(),
+                    principal.getFirstName(),
+                    principal.getLastName(),
+                    principal.getRole());
+        }, passwordHashExecutor);
+    }
+
+    // Re-hashes at the current cost while the raw password is at hand; failures never block the login.
+    // A targeted update, so concurrent edits to the rest of the row survive and a changed password is left alone.
+    private void rehash(UserPrincipal principal, String rawPassword) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(principal.getId(), principal.getPassword(), newHash,
+                    LocalDateTime.now()) > 0) {
+                userPrincipalCache.evict(principal.getId(), principal.getEmail());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not re-hash password for user {}", principal.getId(), e);
+        }
+    }
+}
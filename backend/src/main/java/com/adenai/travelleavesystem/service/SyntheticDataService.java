@@ -0,0 +1,310 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.TravelRequest;
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.TravelRequestRepository;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthetic organisation and travel history for benchmarking list endpoints and indexes at production
+ * scale. Runs once at startup when app.data-generator.enabled=true, and does nothing if its accounts
+ * already exist. Team sizes and requests per employee are skewed (a few large teams, a few frequent
+ * travellers), creation dates lean towards the present, and statuses follow the trip dates: past trips
+ * are mostly decided, upcoming ones often still pending. Rows are written through the same repositories
+ * and read-model/counter services as live traffic, in large JDBC batches, so travel_request_views and
+ * manager_request_counters stay consistent. Like imported history, generated requests post no ledger entries.
+ */
+@Service
+@ConditionalOnProperty(name = "app.data-generator.enabled", havingValue = "true")
+public class SyntheticDataService implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataService.class);
+
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Priya", "Rohan", "Ananya", "Vikram", "Meera", "Arjun", "Kavya",
+            "Rahul", "Sneha", "Karan", "Isha", "Aditya", "Pooja", "Nikhil", "Divya", "Siddharth", "Neha", "Amit", "Riya"};
+
+    private static final String[] LAST_NAMES = {"Sharma", "Patel", "Iyer", "Reddy", "Nair", "Gupta", "Singh", "Kulkarni",
+            "Mehta", "Desai", "Joshi", "Rao", "Banerjee", "Kapoor", "Menon", "Chopra"};
+
+    private static final String[] CITIES = {"Pune", "Mumbai", "Bengaluru", "Delhi", "Chennai", "Hyderabad", "Kolkata",
+            "Ahmedabad", "Jaipur", "Kochi", "Singapore", "London"};
+
+    private static final String[] TRANSPORT_MODES = {"Flight", "Train", "Bus", "Car"};
+
+    private static final String[] PURPOSES = {"Client workshop", "Quarterly business review", "Team offsite",
+            "Vendor audit", "Conference talk", "Customer onboarding", "Hiring drive", "Site visit"};
+
+    private static final String[] REJECTION_REASONS = {"Budget for this quarter is exhausted", "Overlaps a release freeze",
+            "Can be handled remotely", "Please combine with the next planned visit"};
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TravelRequestRepository travelRequestRepository;
+
+    @Autowired
+    private TravelRequestViewService travelRequestViewService;
+
+    @Autowired
+    private TravelRequestSummaryService travelRequestSummaryService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.data-generator.managers:200}")
+    private int managerCount;
+
+    @Value("${app.data-generator.employees:10000}")
+    private int employeeCount;
+
+    @Value("${app.data-generator.requests:1000000}")
+    private long requestCount;
+
+    @Value("${app.data-generator.history-days:730}")
+    private int historyDays;
+
+    // Zipf exponents: 0 spreads evenly; at 0.5 the largest team and busiest traveller are several times the average
+    @Value("${app.data-generator.team-skew:0.5}")
+    private double teamSkew;
+
+    @Value("${app.data-generator.request-skew:0.5}")
+    private double requestSkew;
+
+    @Value("${app.data-generator.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.data-generator.seed:42}")
+    private long seed;
+
+    @Value("${app.data-generator.password:password123}")
+    private String password;
+
+    @Override
+    public void run(String... args) {
+        if (managerCount <= 0 || employeeCount <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("app.data-generator managers, employees and batch-size must be positive");
+        }
+        if (userRepository.findByEmail(managerEmail(1)).isPresent()) {
+            logger.info("Synthetic data already present ({} exists), skipping generation", managerEmail(1));
+            return;
+        }
+
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        // One hash shared by every generated account, so a large org does not cost a bcrypt round per user
+        String passwordHash = passwordEncoder.encode(password);
+
+        List<User> managers = generateManagers(random, passwordHash);
+        List<User> employees = generateEmployees(random, passwordHash, managers);
+        generateRequests(random, employees);
+        // Counters were kept incrementally; a scheduled rebuild overlapping the load can still leave them off
+        travelRequestSummaryService.rebuildCounters();
+
+        logger.info("Generated {} managers, {} employees and {} travel requests in {}s",
+                managers.size(), employees.size(), requestCount,
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+    }
+
+    private List<User> generateManagers(SplittableRandom random, String passwordHash) {
+        List<User> managers = new ArrayList<>(managerCount);
+        List<User> chunk = new ArrayList<>(batchSize);
+        for (int i = 1; i <= managerCount; i++) {
+            chunk.add(user(random, managerEmail(i), Role.MANAGER, null, passwordHash));
+            if (chunk.size() == batchSize || i == managerCount) {
+                managers.addAll(saveUsers(chunk));
+                chunk.clear();
+            }
+        }
+        return managers;
+    }
+
+    private List<User> generateEmployees(SplittableRandom random, String passwordHash, List<User> managers) {
+        double[] teamWeights = cumulativeZipf(managers.size(), teamSkew);
+        List<User> employees = new ArrayList<>(employeeCount);
+        List<User> chunk = new ArrayList<>(batchSize);
+        for (int i = 1; i <= employeeCount; i++) {
+            // Every manager gets at least one report, the rest follow the skewed team sizes
+            User manager = i <= managers.size() ? managers.get(i - 1) : managers.get(sample(teamWeights, random));
+            chunk.add(user(random, "gen.employee" + i + "@gmail.com", Role.EMPLOYEE, manager.getId(), passwordHash));
+            if (chunk.size() == batchSize || i == employeeCount) {
+                employees.addAll(saveUsers(chunk));
+                chunk.clear();
+            }
+        }
+        return employees;
+    }
+
+    private void generateRequests(SplittableRandom random, List<User> employees) {
+        double[] travellerWeights = cumulativeZipf(employees.size(), requestSkew);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime historyStart = now.minusDays(historyDays);
+        long historySeconds = ChronoUnit.SECONDS.between(historyStart, now);
+
+        long started = System.nanoTime();
+        List<TravelRequest> chunk = new ArrayList<>(batchSize);
+        for (long i = 1; i <= requestCount; i++) {
+            User employee = employees.get(sample(travellerWeights, random));
+            // sqrt of a uniform leans towards 1, so recent months hold more requests than old ones
+            LocalDateTime createdAt = historyStart.plusSeconds((long) (Math.sqrt(random.nextDouble()) * historySeconds));
+            chunk.add(travelRequest(random, employee, createdAt, now));
+            if (chunk.size() == batchSize || i == requestCount) {
+                saveRequests(chunk);
+                chunk.clear();
+            }
+            if (i % PROGRESS_INTERVAL == 0) {
+                long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                logger.info("Generated {}/{} travel requests ({} rows/s)", i, requestCount, i * 1000 / elapsedMillis);
+            }
+        }
+    }
+
+    private TravelRequest travelRequest(SplittableRandom random, User employee, LocalDateTime createdAt, LocalDateTime now) {
+        // Mostly booked a week or two ahead, mostly short trips
+        LocalDate fromDate = createdAt.toLocalDate().plusDays(1 + exponential(random, 14, 120));
+        LocalDate toDate = fromDate.plusDays(exponential(random, 2, 13));
+
+        TravelRequest request = new TravelRequest();
+        request.setEmployee(employee);
+        request.setFromDate(fromDate);
+        request.setToDate(toDate);
+        String fromLocation = pick(random, CITIES);
+        String destination;
+        do {
+            destination = pick(random, CITIES);
+        } while (destination.equals(fromLocation));
+        request.setFromLocation(fromLocation);
+        request.setDestination(destination);
+        request.setModeOfTransport(pick(random, TRANSPORT_MODES));
+        request.setPurposeOfTravel(pick(random, PURPOSES));
+        request.calculateDaysRequested();
+        request.setCreatedAt(createdAt);
+        request.setUpdatedAt(createdAt);
+
+        TravelRequestStatus status = status(random, !fromDate.isAfter(now.toLocalDate()));
+        request.setStatus(status);
+        if (status != TravelRequestStatus.PENDING) {
+            LocalDateTime decidedAt = createdAt.plusMinutes(30 + random.nextInt(72 * 60));
+            if (decidedAt.isAfter(now)) {
+                decidedAt = now;
+            }
+            request.setApprovedBy(employee.getManagerId());
+            request.setApprovedAt(decidedAt);
+            request.setUpdatedAt(decidedAt);
+            if (status == TravelRequestStatus.REJECTED) {
+                request.setRejectionReason(pick(random, REJECTION_REASONS));
+            }
+        }
+        return request;
+    }
+
+    private static TravelRequestStatus status(SplittableRandom random, boolean tripStarted) {
+        double roll = random.nextDouble();
+        if (tripStarted) {
+            // A few stale requests nobody ever decided
+            return roll < 0.78 ? TravelRequestStatus.APPROVED : roll < 0.95 ? TravelRequestStatus.REJECTED : TravelRequestStatus.PENDING;
+        }
+        return roll < 0.45 ? TravelRequestStatus.PENDING : roll < 0.90 ? TravelRequestStatus.APPROVED : TravelRequestStatus.REJECTED;
+    }
+
+    private List<User> saveUsers(List<User> users) {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            return userRepository.saveAll(users);
+        });
+    }
+
+    // Requests, read model rows and counters for a chunk commit together, as they do for a single request
+    private void saveRequests(List<TravelRequest> requests) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<TravelRequest> saved = travelRequestRepository.saveAll(requests);
+            travelRequestViewService.recordCreatedAll(saved);
+            // Each counter upsert is a native query, which would otherwise dirty-check the whole chunk before running
+            entityManager.flush();
+            entityManager.clear();
+
+            Map<Long, Map<TravelRequestStatus, Long>> counts = new HashMap<>();
+            for (TravelRequest request : saved) {
+                counts.computeIfAbsent(request.getEmployee().getManagerId(), id -> new EnumMap<>(TravelRequestStatus.class))
+                        .merge(request.getStatus(), 1L, Long::sum);
+            }
+            counts.forEach((managerId, byStatus) -> byStatus.forEach((requestStatus, count) ->
+                    travelRequestSummaryService.recordCreated(managerId, requestStatus, count)));
+        });
+    }
+
+    private static User user(SplittableRandom random, String email, Role role, Long managerId, String passwordHash) {
+        User user = new User();
+        user.setFirstName(pick(random, FIRST_NAMES));
+        user.setLastName(pick(random, LAST_NAMES));
+        user.setEmail(email);
+        user.setPassword(passwordHash);
+        user.setRole(role);
+        user.setLeavesLeft(role == Role.MANAGER ? 25 : 15 + random.nextInt(16));
+        user.setManagerId(managerId);
+        return user;
+    }
+
+    private static String managerEmail(int index) {
+        return "gen.manager" + index + "@gmail.com";
+    }
+
+    // Cumulative weights of 1 / rank^exponent, for sampling by binary search
+    private static double[] cumulativeZipf(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1 / Math.pow(i + 1, exponent);
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative, SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    private static long exponential(SplittableRandom random, double mean, long max) {
+        return Math.min(max, (long) (-Math.log(1 - random.nextDouble()) * mean));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,204 @@
+package com.adenai.travelleavesystem.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams travel requests from a forward-only cursor over travel_request_views straight to the response,
+ * one row at a time, so memory use does not grow with the size of the history being exported.
+ */
+@Service
+public class TravelRequestExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            return value == null || value.isBlank() ? CSV : valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final String[] COLUMNS = {
+            "request_id", "employee_id", "employee_first_name", "employee_last_name", "manager_email",
+            "from_date", "to_date", "days_requested", "from_location", "destination", "mode_of_transport",
+            "status", "created_at", "approved_at", "rejection_reason", "purpose_of_travel"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // MySQL Connector/J only streams row by row with Integer.MIN_VALUE; other drivers take a positive hint
+    @Value("${app.travel.export.fetch-size:1000}")
+    private int fetchSize;
+
+    private JdbcTemplate streamingJdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // Read-only so the export can be served by the replica when routing is enabled
+    @Transactional(readOnly = true)
+    public void export(Long managerId, String status, LocalDate from, LocalDate to, Format format, OutputStream out) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", COLUMNS))
+                .append(" FROM travel_request_views WHERE manager_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(managerId);
+        if (status != null) {
+            sql.append(" AND status = ?");
+            args.add(status);
+        }
+        // Same overlap rule as the list filters
+        if (to != null) {
+            sql.append(" AND from_date <= ?");
+            args.add(Date.valueOf(to));
+        }
+        if (from != null) {
+            sql.append(" AND to_date >= ?");
+            args.add(Date.valueOf(from));
+        }
+        sql.append(" ORDER BY created_at, request_id");
+
+        try {
+            RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+            streamingJdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> writer.write(rs), args.toArray());
+            writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException;
+
+        void finish() throws IOException;
+    }
+
+    private static Object columnValue(ResultSet rs, int index) throws SQLException {
+        Object value = rs.getObject(index);
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().toString();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).toLocalDate().toString();
+        }
+        return value;
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                for (int i = 1; i <= COLUMNS.length; i++) {
+                    if (i > 1) {
+                        writer.write(',');
+                    }
+                    Object value = columnValue(rs, i);
+                    if (value != null) {
+                        writer.write(escape(value.toString()));
+                    }
+                }
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180 quoting; leading formula characters are neutralised for spreadsheet users
+        private static String escape(String value) {
+            if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+            return value;
+        }
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException {
+            try {
+                generator.writeStartObject();
+                for (int i = 1; i <= COLUMNS.length; i++) {
+                    generator.writeFieldName(COLUMNS[i - 1]);
+                    generator.writeObject(columnValue(rs, i));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -1,18 +1,41 @@
 package com.adenai.travelleavesystem.service;
 
+import com.adenai.travelleavesystem.dto.BulkDecisionRequest;
+import com.adenai.travelleavesystem.dto.BulkDecisionResponse;
+import com.adenai.travelleavesystem.dto.TravelRequestCursor;
 import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.dto.TravelRequestFilter;
+import com.adenai.travelleavesystem.dto.TravelRequestPageResponse;
 import com.adenai.travelleavesystem.dto.TravelRequestResponse;
+import com.adenai.travelleavesystem.dto.TravelRequestSummaryResponse;
+import com.adenai.travelleavesystem.model.LeaveTransaction;
+import com.adenai.travelleavesystem.model.LeaveTransactionType;
 import com.adenai.travelleavesystem.model.TravelRequest;
 import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.TravelRequestView;
 import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.TravelRequestBatchRepository;
 import com.adenai.travelleavesystem.repository.TravelRequestRepository;
+import com.adenai.travelleavesystem.repository.TravelRequestViewRepository;
+import com.adenai.travelleavesystem.repository.TravelRequestViewSpecifications;
 import com.adenai.travelleavesystem.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +47,30 @@ public class TravelRequestService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private LeaveLedgerService leaveLedgerService;
+
+    @Autowired
+    private TravelRequestSummaryService travelRequestSummaryService;
+
+    @Autowired
+    private TravelRequestViewService travelRequestViewService;
+
+    @Autowired
+    private TravelRequestViewRepository travelRequestViewRepository;
+
+    @Value("${app.travel.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.travel.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.travel.bulk.max-size:100}")
+    private int maxBulkSize;
+
+    @Autowired
+    private TravelRequestBatchRepository travelRequestBatchRepository;
+
     @Transactional
     public TravelRequestResponse createTravelRequest(TravelRequestDto requestDto, Long employeeId) {
         User employee = userRepository.findById(employeeId)
@@ -40,88 +87,286 @@ public class TravelRequestService {
         travelRequest.calculateDaysRequested();
 
         // Check if employee has enough leaves
-        if (employee.getLeavesLeft() < travelRequest.getDaysRequested()) {
-            throw new RuntimeException("Insufficient leave balance. Available: " + employee.getLeavesLeft() + 
+        int leavesLeft = leaveLedgerService.getBalance(employee);
+        if (leavesLeft < travelRequest.getDaysRequested()) {
+            throw new RuntimeException("Insufficient leave balance. Available: " + leavesLeft +
                                      ", Required: " + travelRequest.getDaysRequested());
         }
 
         TravelRequest savedRequest = travelRequestRepository.save(travelRequest);
+        travelRequestSummaryService.recordCreated(employee.getManagerId(), savedRequest.getStatus());
+        travelRequestViewService.recordCreated(savedRequest);
         return convertToResponse(savedRequest);
     }
 
-    public List<TravelRequestResponse> getEmployeeRequests(Long employeeId) {
-        List<TravelRequest> requests = travelRequestRepository.findByEmployeeId(employeeId);
-        return requests.stream().map(this::convertToResponse).collect(Collectors.toList());
+    // List endpoints read the denormalized view table: one indexed scan and one batched balance lookup, no joins
+    @Transactional(readOnly = true)
+    public List<TravelRequestResponse> getEmployeeRequests(Long employeeId, TravelRequestFilter filter) {
+        // An employee filter would be redundant here and could widen the query, so it is ignored
+        if (filter != null) {
+            filter.setEmployeeId(null);
+        }
+        return convertViews(travelRequestViewRepository.findAll(
+                TravelRequestViewSpecifications.forEmployee(employeeId).and(TravelRequestViewSpecifications.matching(filter)),
+                TravelRequestViewSpecifications.sortOf(filter)));
     }
 
+    @Transactional(readOnly = true)
     public List<TravelRequestResponse> getAllRequests() {
-        List<TravelRequest> requests = travelRequestRepository.findAll();
-        return requests.stream().map(this::convertToResponse).collect(Collectors.toList());
+        return convertViews(travelRequestViewRepository.findAllByOrderByCreatedAtDescIdDesc());
     }
 
+    @Transactional(readOnly = true)
     public List<TravelRequestResponse> getRequestsByStatus(TravelRequestStatus status) {
-        List<TravelRequest> requests = travelRequestRepository.findByStatus(status);
-        return requests.stream().map(this::convertToResponse).collect(Collectors.toList());
+        return convertViews(travelRequestViewRepository.findByStatusOrderByCreatedAtDescIdDesc(status));
     }
 
-    public List<TravelRequestResponse> getManagerRequests(Long managerId) {
-        List<TravelRequest> requests = travelRequestRepository.findByManagerId(managerId);
-        return requests.stream().map(this::convertToResponse).collect(Collectors.toList());
+    // Filters are always combined with the manager scope, so an employeeId outside the team simply matches nothing
+    @Transactional(readOnly = true)
+    public List<TravelRequestResponse> getManagerRequests(Long managerId, TravelRequestFilter filter) {
+        return convertViews(travelRequestViewRepository.findAll(
+                TravelRequestViewSpecifications.forManager(managerId).and(TravelRequestViewSpecifications.matching(filter)),
+                TravelRequestViewSpecifications.sortOf(filter)));
     }
 
-    public List<TravelRequestResponse> getManagerRequestsByStatus(Long managerId, TravelRequestStatus status) {
-        List<TravelRequest> requests = travelRequestRepository.findByManagerIdAndStatus(managerId, status);
-        return requests.stream().map(this::convertToResponse).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public TravelRequestPageResponse getEmployeeRequestPage(Long employeeId, String cursorToken, Integer size) {
+        TravelRequestCursor cursor = TravelRequestCursor.decode(cursorToken);
+        int pageSize = resolvePageSize(size);
+        List<TravelRequestView> views = travelRequestViewRepository.findEmployeePageAfter(
+                employeeId, cursor.getCreatedAt(), cursor.getId(), limitOf(pageSize));
+        return toPage(views, pageSize);
     }
 
+    @Transactional(readOnly = true)
+    public TravelRequestPageResponse getManagerRequestPage(Long managerId, TravelRequestStatus status,
+                                                           String cursorToken, Integer size) {
+        TravelRequestCursor cursor = TravelRequestCursor.decode(cursorToken);
+        int pageSize = resolvePageSize(size);
+        List<TravelRequestView> views = status != null
+                ? travelRequestViewRepository.findManagerPageByStatusAfter(
+                        managerId, status, cursor.getCreatedAt(), cursor.getId(), limitOf(pageSize))
+                : travelRequestViewRepository.findManagerPageAfter(
+                        managerId, cursor.getCreatedAt(), cursor.getId(), limitOf(pageSize));
+        return toPage(views, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public TravelRequestSummaryResponse getManagerSummary(Long managerId) {
+        return travelRequestSummaryService.getSummary(managerId);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<TravelRequestResponse> getRequestById(Long id) {
-        return travelRequestRepository.findById(id)
+        return travelRequestRepository.findWithEmployeeById(id)
                 .map(this::convertToResponse);
     }
 
+    /**
+     * The status guard is a conditional UPDATE; the leave deduction is an append to the ledger, never an
+     * update of users. The request and its employee are locked, in the same order as decideBulk, before
+     * the first plain read: under InnoDB REPEATABLE READ that read fixes the transaction's snapshot, so
+     * the balance then includes every deduction committed by an approval that held the lock first.
+     */
     @Transactional
     public TravelRequestResponse approveRequest(Long requestId, Long managerId) {
-        TravelRequest request = travelRequestRepository.findById(requestId)
+        Long employeeId = travelRequestRepository.findEmployeeIdForUpdate(requestId)
                 .orElseThrow(() -> new RuntimeException("Travel request not found"));
+        User employee = userRepository.findByIdForUpdate(employeeId)
+                .orElseThrow(() -> new RuntimeException("Employee not found"));
+        LocalDateTime now = LocalDateTime.now();
 
-        if (request.getStatus() != TravelRequestStatus.PENDING) {
+        if (travelRequestRepository.decidePending(requestId, TravelRequestStatus.APPROVED, managerId, null, now) == 0) {
             throw new RuntimeException("Request has already been processed");
         }
 
-        // Update request status
-        request.setStatus(TravelRequestStatus.APPROVED);
-        request.setApprovedBy(managerId);
-        request.setApprovedAt(LocalDateTime.now());
-
-        // Deduct leaves from employee
-        User employee = request.getEmployee();
-        employee.setLeavesLeft(employee.getLeavesLeft() - request.getDaysRequested());
-        userRepository.save(employee);
+        // Throwing rolls back the transition above
+        Integer daysRequested = travelRequestRepository.findById(requestId)
+                .orElseThrow(() -> new RuntimeException("Travel request not found"))
+                .getDaysRequested();
+        int leavesLeft = leaveLedgerService.getCurrentBalance(employee);
+        if (leavesLeft < daysRequested) {
+            throw new RuntimeException("Insufficient leave balance. Required: " + daysRequested);
+        }
+        leaveLedgerService.record(employeeId, LeaveTransactionType.DEDUCTION, -daysRequested, requestId);
+        travelRequestSummaryService.recordTransition(employee.getManagerId(), TravelRequestStatus.PENDING, TravelRequestStatus.APPROVED);
+        travelRequestViewService.recordDecision(requestId, TravelRequestStatus.APPROVED, now, null);
 
-        TravelRequest savedRequest = travelRequestRepository.save(request);
-        return convertToResponse(savedRequest);
+        return getUpdatedRequest(requestId);
     }
 
     @Transactional
     public TravelRequestResponse rejectRequest(Long requestId, Long managerId, String rejectionReason) {
-        TravelRequest request = travelRequestRepository.findById(requestId)
+        LocalDateTime now = LocalDateTime.now();
+        if (travelRequestRepository.decidePending(requestId, TravelRequestStatus.REJECTED, managerId, rejectionReason, now) == 0) {
+            if (!travelRequestRepository.existsById(requestId)) {
+                throw new RuntimeException("Travel request not found");
+            }
+            throw new RuntimeException("Request has already been processed");
+        }
+
+        TravelRequest request = travelRequestRepository.findWithEmployeeById(requestId)
                 .orElseThrow(() -> new RuntimeException("Travel request not found"));
+        travelRequestSummaryService.recordTransition(request.getEmployee().getManagerId(), TravelRequestStatus.PENDING, TravelRequestStatus.REJECTED);
+        travelRequestViewService.recordDecision(requestId, TravelRequestStatus.REJECTED, now, rejectionReason);
+        return convertToResponse(request);
+    }
 
-        if (request.getStatus() != TravelRequestStatus.PENDING) {
-            throw new RuntimeException("Request has already been processed");
+    /**
+     * Decides many requests in one transaction. The requests and their employees are locked up front, then
+     * the status updates, ledger deductions and read-model updates each go out as a single JDBC batch.
+     * Ids that are unknown, belong to another manager's team, are no longer pending or exceed the remaining
+     * balance are reported individually and do not affect the rest.
+     */
+    @Transactional
+    public BulkDecisionResponse decideBulk(BulkDecisionRequest bulkRequest, Long managerId) {
+        List<Long> ids = bulkRequest.getIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (ids.size() > maxBulkSize) {
+            throw new IllegalArgumentException("At most " + maxBulkSize + " requests can be decided at once");
+        }
+        boolean approve = bulkRequest.getAction() == BulkDecisionRequest.BulkAction.APPROVE;
+        String rejectionReason = approve ? null : bulkRequest.getReason();
+        if (!approve && (rejectionReason == null || rejectionReason.isBlank())) {
+            throw new IllegalArgumentException("Rejection reason is required");
         }
+        TravelRequestStatus target = approve ? TravelRequestStatus.APPROVED : TravelRequestStatus.REJECTED;
+        LocalDateTime now = LocalDateTime.now();
 
-        // Update request status
-        request.setStatus(TravelRequestStatus.REJECTED);
-        request.setApprovedBy(managerId);
-        request.setApprovedAt(LocalDateTime.now());
-        request.setRejectionReason(rejectionReason);
+        Map<Long, TravelRequest> requests = travelRequestRepository.findAllByIdInForUpdate(ids).stream()
+                .collect(Collectors.toMap(TravelRequest::getId, Function.identity()));
+        Set<Long> employeeIds = requests.values().stream()
+                .map(request -> request.getEmployee().getId())
+                .collect(Collectors.toSet());
+        Map<Long, User> employees = (approve
+                ? userRepository.findAllByIdForUpdate(employeeIds)
+                : userRepository.findAllById(employeeIds)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
 
-        TravelRequest savedRequest = travelRequestRepository.save(request);
-        return convertToResponse(savedRequest);
+        Map<Long, BulkDecisionResponse.Result> outcomes = new HashMap<>();
+        List<TravelRequest> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            TravelRequest request = requests.get(id);
+            if (request == null || !managerId.equals(employees.get(request.getEmployee().getId()).getManagerId())) {
+                outcomes.put(id, new BulkDecisionResponse.Result(id, null, "Travel request not found"));
+            } else if (request.getStatus() != TravelRequestStatus.PENDING) {
+                outcomes.put(id, new BulkDecisionResponse.Result(id, request.getStatus(), "Request has already been processed"));
+            } else {
+                eligible.add(request);
+            }
+        }
+
+        // Balances are spent oldest request first, so a later request is the one refused when they run out
+        Map<Long, Integer> balances = approve
+                ? new HashMap<>(leaveLedgerService.getCurrentBalances(employees.values()))
+                : Collections.emptyMap();
+        List<Long> decidedIds = new ArrayList<>();
+        List<LeaveTransaction> deductions = new ArrayList<>();
+        eligible.sort(Comparator.comparing(TravelRequest::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(TravelRequest::getId));
+        for (TravelRequest request : eligible) {
+            if (approve) {
+                Long employeeId = request.getEmployee().getId();
+                int days = request.getDaysRequested();
+                int balance = balances.get(employeeId);
+                if (balance < days) {
+                    outcomes.put(request.getId(), new BulkDecisionResponse.Result(
+                            request.getId(), TravelRequestStatus.PENDING, "Insufficient leave balance. Required: " + days));
+                    continue;
+                }
+                balances.put(employeeId, balance - days);
+                deductions.add(new LeaveTransaction(employeeId, LeaveTransactionType.DEDUCTION, -days, request.getId()));
+            }
+            decidedIds.add(request.getId());
+            outcomes.put(request.getId(), new BulkDecisionResponse.Result(request.getId(), target, null));
+        }
+
+        if (!decidedIds.isEmpty()) {
+            int[] counts = travelRequestBatchRepository.decidePending(decidedIds, target, managerId, rejectionReason, now);
+            for (int i = 0; i < counts.length; i++) {
+                // Cannot happen while the rows are locked; fail rather than deduct leave for an undecided request
+                if (counts[i] == 0) {
+                    throw new RuntimeException("Request " + decidedIds.get(i) + " changed during bulk decision");
+                }
+            }
+            leaveLedgerService.recordAll(deductions);
+            travelRequestBatchRepository.updateViewDecisions(decidedIds, target, rejectionReason, now);
+            travelRequestSummaryService.recordTransitions(managerId, TravelRequestStatus.PENDING, target, decidedIds.size());
+        }
+
+        return new BulkDecisionResponse(ids.stream().map(outcomes::get).collect(Collectors.toList()));
+    }
+
+    private TravelRequestResponse getUpdatedRequest(Long requestId) {
+        return travelRequestRepository.findWithEmployeeById(requestId)
+                .map(this::convertToResponse)
+                .orElseThrow(() -> new RuntimeException("Travel request not found"));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // One row beyond the page tells us whether another page exists without a count query
+    private Pageable limitOf(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private TravelRequestPageResponse toPage(List<TravelRequestView> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<TravelRequestView> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TravelRequestView last = page.get(page.size() - 1);
+            nextCursor = new TravelRequestCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new TravelRequestPageResponse(convertViews(page), nextCursor);
+    }
+
+    // Balances change with every approval, so they are not stored on view rows; one lookup covers the page
+    private List<TravelRequestResponse> convertViews(List<TravelRequestView> views) {
+        Set<Long> employeeIds = views.stream().map(TravelRequestView::getEmployeeId).collect(Collectors.toSet());
+        return convertViews(views, employeeIds.isEmpty() ? Collections.emptyMap() : leaveLedgerService.getBalancesByUserId(employeeIds));
+    }
+
+    private List<TravelRequestResponse> convertViews(List<TravelRequestView> views, Map<Long, Integer> balances) {
+        return views.stream()
+                .map(view -> convertToResponse(view, balances.get(view.getEmployeeId())))
+                .collect(Collectors.toList());
+    }
+
+    private TravelRequestResponse convertToResponse(TravelRequestView view, Integer employeeLeavesLeft) {
+        TravelRequestResponse response = new TravelRequestResponse();
+        response.setId(view.getId());
+        response.setEmployeeFirstName(view.getEmployeeFirstName());
+        response.setEmployeeLastName(view.getEmployeeLastName());
+        response.setFromDate(view.getFromDate());
+        response.setToDate(view.getToDate());
+        response.setFromLocation(view.getFromLocation());
+        response.setDestination(view.getDestination());
+        response.setModeOfTransport(view.getModeOfTransport());
+        response.setPurposeOfTravel(view.getPurposeOfTravel());
+        response.setStatus(view.getStatus());
+        response.setDaysRequested(view.getDaysRequested());
+        response.setEmployeeLeavesLeft(employeeLeavesLeft);
+        response.setCreatedAt(view.getCreatedAt());
+        response.setApprovedAt(view.getApprovedAt());
+        response.setRejectionReason(view.getRejectionReason());
+        response.setManagerFirstName(view.getManagerFirstName());
+        response.setManagerUsername(view.getManagerEmail());
+        return response;
     }
 
     private TravelRequestResponse convertToResponse(TravelRequest request) {
+        Long managerId = request.getEmployee().getManagerId();
+        User manager = managerId != null ? userRepository.findById(managerId).orElse(null) : null;
+        return convertToResponse(request, manager, leaveLedgerService.getBalance(request.getEmployee()));
+    }
+
+    private TravelRequestResponse convertToResponse(TravelRequest request, User manager, Integer employeeLeavesLeft) {
         TravelRequestResponse response = new TravelRequestResponse();
         response.setId(request.getId());
         response.setEmployeeFirstName(request.getEmployee().getFirstName());
@@ -134,17 +379,15 @@ public class TravelRequestService {
         response.setPurposeOfTravel(request.getPurposeOfTravel());
         response.setStatus(request.getStatus());
         response.setDaysRequested(request.getDaysRequested());
-        response.setEmployeeLeavesLeft(request.getEmployee().getLeavesLeft());
+        response.setEmployeeLeavesLeft(employeeLeavesLeft);
         response.setCreatedAt(request.getCreatedAt());
         response.setApprovedAt(request.getApprovedAt());
         response.setRejectionReason(request.getRejectionReason());
 
         // Set manager information if available
-        if (request.getEmployee().getManagerId() != null) {
-            userRepository.findById(request.getEmployee().getManagerId()).ifPresent(manager -> {
-                response.setManagerFirstName(manager.getFirstName());
-                response.setManagerUsername(manager.getEmail());
-            });
+        if (manager != null) {
+            response.setManagerFirstName(manager.getFirstName());
+            response.setManagerUsername(manager.getEmail());
         }
 
         return response;
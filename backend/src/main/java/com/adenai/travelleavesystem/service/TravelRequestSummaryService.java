@@ -0,0 +1,123 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.dto.TravelRequestSummaryResponse;
+import com.adenai.travelleavesystem.model.ManagerRequestCounter;
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.repository.ManagerRequestCounterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Per-manager status counts maintained alongside every status change, so the dashboard summary never scans requests
+@Service
+public class TravelRequestSummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TravelRequestSummaryService.class);
+
+    @Autowired
+    private ManagerRequestCounterRepository managerRequestCounterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // Joins the caller's transaction so a counter never moves without the request it counts
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long managerId, TravelRequestStatus status) {
+        if (managerId != null) {
+            managerRequestCounterRepository.adjust(managerId, status.name(), 1);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Long managerId, TravelRequestStatus status, long count) {
+        if (managerId != null && count > 0) {
+            managerRequestCounterRepository.adjust(managerId, status.name(), count);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long managerId, TravelRequestStatus from, TravelRequestStatus to) {
+        recordTransitions(managerId, from, to, 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(Long managerId, TravelRequestStatus from, TravelRequestStatus to, long count) {
+        if (managerId != null && count > 0) {
+            managerRequestCounterRepository.adjust(managerId, from.name(), -count);
+            managerRequestCounterRepository.adjust(managerId, to.name(), count);
+        }
+    }
+
+    public TravelRequestSummaryResponse getSummary(Long managerId) {
+        Map<TravelRequestStatus, Long> counts = new EnumMap<>(TravelRequestStatus.class);
+        for (ManagerRequestCounter counter : managerRequestCounterRepository.findByManagerId(managerId)) {
+            counts.put(counter.getStatus(), Math.max(0L, counter.getRequestCount()));
+        }
+        return new TravelRequestSummaryResponse(
+                counts.getOrDefault(TravelRequestStatus.PENDING, 0L),
+                counts.getOrDefault(TravelRequestStatus.APPROVED, 0L),
+                counts.getOrDefault(TravelRequestStatus.REJECTED, 0L));
+    }
+
+    /**
+     * Corrects drift from writes that bypassed the service (manual SQL, data loads) and from employees
+     * moving to a different manager. One non-locking count over travel_requests finds the managers whose
+     * counters differ; each of those is then fixed in its own short transaction. Not run at startup.
+     */
+    @Scheduled(fixedDelayString = "${app.travel.summary.rebuild-interval:PT6H}", initialDelayString = "${app.travel.summary.rebuild-interval:PT6H}")
+    public void rebuildCounters() {
+        Map<Long, Map<TravelRequestStatus, Long>> actual = new HashMap<>();
+        for (Object[] row : managerRequestCounterRepository.countRequestsByManagerAndStatus()) {
+            actual.computeIfAbsent(((Number) row[0]).longValue(), id -> new EnumMap<>(TravelRequestStatus.class))
+                    .put(TravelRequestStatus.valueOf((String) row[1]), ((Number) row[2]).longValue());
+        }
+        Map<Long, Map<TravelRequestStatus, Long>> stored = new HashMap<>();
+        for (ManagerRequestCounter counter : managerRequestCounterRepository.findAll()) {
+            if (counter.getRequestCount() != 0) {
+                stored.computeIfAbsent(counter.getManagerId(), id -> new EnumMap<>(TravelRequestStatus.class))
+                        .put(counter.getStatus(), counter.getRequestCount());
+            }
+        }
+
+        Set<Long> drifted = new HashSet<>(actual.keySet());
+        drifted.addAll(stored.keySet());
+        drifted.removeIf(managerId -> Objects.equals(actual.get(managerId), stored.get(managerId)));
+        for (Long managerId : drifted) {
+            transactionTemplate.executeWithoutResult(status -> reconcile(managerId));
+        }
+        if (!drifted.isEmpty()) {
+            logger.info("Corrected request counters for {} managers", drifted.size());
+        }
+    }
+
+    // Locks the manager's counters before the count: under InnoDB REPEATABLE READ the count's snapshot then
+    // includes every request whose creating transaction had already moved a counter
+    private void reconcile(Long managerId) {
+        Map<TravelRequestStatus, Long> stored = new EnumMap<>(TravelRequestStatus.class);
+        for (ManagerRequestCounter counter : managerRequestCounterRepository.findByManagerIdForUpdate(managerId)) {
+            stored.put(counter.getStatus(), counter.getRequestCount());
+        }
+        Map<TravelRequestStatus, Long> actual = new EnumMap<>(TravelRequestStatus.class);
+        for (Object[] row : managerRequestCounterRepository.countRequestsByStatus(managerId)) {
+            actual.put(TravelRequestStatus.valueOf((String) row[0]), ((Number) row[1]).longValue());
+        }
+        for (TravelRequestStatus status : TravelRequestStatus.values()) {
+            long count = actual.getOrDefault(status, 0L);
+            Long current = stored.get(status);
+            if (current == null ? count != 0 : current != count) {
+                managerRequestCounterRepository.setCount(managerId, status.name(), count);
+            }
+        }
+    }
+}
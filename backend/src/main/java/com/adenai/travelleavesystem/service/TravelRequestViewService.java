@@ -0,0 +1,185 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.model.TravelRequest;
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.TravelRequestView;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.TravelRequestRepository;
+import com.adenai.travelleavesystem.repository.TravelRequestViewRepository;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Keeps travel_request_views in step with travel_requests; list endpoints read only the view table
+@Service
+public class TravelRequestViewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TravelRequestViewService.class);
+
+    @Autowired
+    private TravelRequestViewRepository travelRequestViewRepository;
+
+    @Autowired
+    private TravelRequestRepository travelRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.travel.view.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    // The view writes join the caller's transaction so readers never see a request without its view row
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(TravelRequest request) {
+        User employee = request.getEmployee();
+        User manager = employee.getManagerId() != null
+                ? userRepository.findById(employee.getManagerId()).orElse(null)
+                : null;
+        travelRequestViewRepository.save(project(request, employee, manager, new TravelRequestView()));
+    }
+
+    // Projects a batch of new requests with one manager lookup for the whole batch
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreatedAll(List<TravelRequest> requests) {
+        Map<Long, User> employees = requests.stream()
+                .map(TravelRequest::getEmployee)
+                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+        Map<Long, User> managers = findManagers(employees.values());
+
+        List<TravelRequestView> views = new ArrayList<>(requests.size());
+        for (TravelRequest request : requests) {
+            User employee = employees.get(request.getEmployee().getId());
+            views.add(project(request, employee, managers.get(employee.getManagerId()), new TravelRequestView()));
+        }
+        travelRequestViewRepository.saveAll(views);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDecision(Long requestId, TravelRequestStatus status, LocalDateTime decidedAt, String rejectionReason) {
+        travelRequestViewRepository.updateDecision(requestId, status, decidedAt, rejectionReason);
+    }
+
+    /**
+     * Projects the requests that have no view row yet, such as history from before the read table existed.
+     * Runs once at startup; when nothing is missing it costs one anti-join read and takes no locks.
+     */
+    @Scheduled(initialDelayString = "${app.travel.view.backfill-initial-delay:PT0S}")
+    public void backfillViews() {
+        long afterId = 0L;
+        int total = 0;
+        while (true) {
+            List<Long> ids = travelRequestRepository.findUnprojectedIdsAfter(afterId, PageRequest.of(0, rebuildBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> projectBatch(travelRequestRepository.findAllByIdInForUpdate(ids)));
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (total > 0) {
+            logger.info("Backfilled {} travel request views", total);
+        }
+    }
+
+    /**
+     * Re-projects every travel request in id order, one locked batch per transaction, then drops view rows
+     * whose request no longer exists. Repairs drift from changes made outside the service, such as renamed
+     * users or employees moved to another manager. It rewrites the whole table, so it only runs on the
+     * app.travel.view.rebuild-cron schedule, which is off by default.
+     */
+    @Scheduled(cron = "${app.travel.view.rebuild-cron:-}")
+    public void rebuildViews() {
+        long afterId = 0L;
+        int total = 0;
+        while (true) {
+            long from = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> projectBatch(
+                    travelRequestRepository.findBatchAfterForUpdate(from, PageRequest.of(0, rebuildBatchSize))));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        Integer removed = transactionTemplate.execute(status -> travelRequestViewRepository.deleteOrphans());
+        logger.info("Rebuilt {} travel request views, removed {} orphaned rows", total, removed);
+    }
+
+    // Callers lock the batch first, which orders it against concurrent approve/reject so no stale state is written back
+    private List<Long> projectBatch(List<TravelRequest> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<Long> employeeIds = requests.stream().map(request -> request.getEmployee().getId()).collect(Collectors.toSet());
+        Map<Long, User> employees = userRepository.findAllById(employeeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, User> managers = findManagers(employees.values());
+        Map<Long, TravelRequestView> existing = travelRequestViewRepository.findAllById(
+                        requests.stream().map(TravelRequest::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(TravelRequestView::getId, Function.identity()));
+
+        List<TravelRequestView> views = new ArrayList<>(requests.size());
+        List<Long> ids = new ArrayList<>(requests.size());
+        for (TravelRequest request : requests) {
+            User employee = employees.get(request.getEmployee().getId());
+            TravelRequestView view = existing.getOrDefault(request.getId(), new TravelRequestView());
+            views.add(project(request, employee, managers.get(employee.getManagerId()), view));
+            ids.add(request.getId());
+        }
+        travelRequestViewRepository.saveAll(views);
+        return ids;
+    }
+
+    private Map<Long, User> findManagers(Collection<User> employees) {
+        Set<Long> managerIds = employees.stream()
+                .map(User::getManagerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return managerIds.isEmpty()
+                ? Collections.emptyMap()
+                : userRepository.findAllById(managerIds).stream().collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private TravelRequestView project(TravelRequest request, User employee, User manager, TravelRequestView view) {
+        view.setId(request.getId());
+        view.setEmployeeId(employee.getId());
+        view.setManagerId(employee.getManagerId());
+        view.setEmployeeFirstName(employee.getFirstName());
+        view.setEmployeeLastName(employee.getLastName());
+        view.setManagerFirstName(manager != null ? manager.getFirstName() : null);
+        view.setManagerEmail(manager != null ? manager.getEmail() : null);
+        view.setFromDate(request.getFromDate());
+        view.setToDate(request.getToDate());
+        view.setFromLocation(request.getFromLocation());
+        view.setDestination(request.getDestination());
+        view.setModeOfTransport(request.getModeOfTransport());
+        view.setPurposeOfTravel(request.getPurposeOfTravel());
+        view.setStatus(request.getStatus());
+        view.setDaysRequested(request.getDaysRequested());
+        view.setApprovedAt(request.getApprovedAt());
+        view.setRejectionReason(request.getRejectionReason());
+        view.setCreatedAt(request.getCreatedAt());
+        return view;
+    }
+}
@@ -0,0 +1,3 @@
+-- Embedded profile only: the V2 demo hash does not verify, so reset the demo accounts to 'password123' as documented
+UPDATE users SET password = '$2a$10$ZGj1DVQyZuFm03adgsp1K.49a0pzFeTZSZn/vF0SbA0hYi3Uw027y'
+WHERE email IN ('manager@gmail.com', 'alice@gmail.com', 'bob@gmail.com');
@@ -0,0 +1,103 @@
+-- Baseline schema, matching the JPA mappings at the time ddl-auto was switched to validate.
+-- Enum values are stored as VARCHAR rather than MySQL ENUM so adding a value needs no table rebuild.
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    password VARCHAR(255),
+    role VARCHAR(20),
+    leaves_left INTEGER,
+    manager_id BIGINT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_users_manager ON users (manager_id);
+
+CREATE TABLE travel_requests (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    employee_id BIGINT,
+    from_date DATE,
+    to_date DATE,
+    from_location VARCHAR(255),
+    destination VARCHAR(255),
+    mode_of_transport VARCHAR(255),
+    purpose_of_travel TEXT,
+    status VARCHAR(20),
+    days_requested INTEGER,
+    approved_by BIGINT,
+    approved_at DATETIME(6),
+    rejection_reason TEXT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_travel_requests_employee FOREIGN KEY (employee_id) REFERENCES users (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_travel_requests_employee_created ON travel_requests (employee_id, created_at, id);
+CREATE INDEX idx_travel_requests_employee_status_from ON travel_requests (employee_id, status, from_date);
+CREATE INDEX idx_travel_requests_created ON travel_requests (created_at, id);
+
+CREATE TABLE leave_transactions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    days INTEGER NOT NULL,
+    travel_request_id BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_leave_transactions_request_type UNIQUE (travel_request_id, type)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_leave_transactions_user ON leave_transactions (user_id, id);
+CREATE INDEX idx_leave_transactions_created ON leave_transactions (created_at);
+
+CREATE TABLE leave_balance_snapshots (
+    user_id BIGINT NOT NULL,
+    balance INTEGER NOT NULL,
+    last_transaction_id BIGINT NOT NULL,
+    taken_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE manager_request_counters (
+    manager_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    request_count BIGINT NOT NULL,
+    PRIMARY KEY (manager_id, status)
+) ENGINE=InnoDB;
+
+CREATE TABLE travel_request_views (
+    request_id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    manager_id BIGINT,
+    employee_first_name VARCHAR(255),
+    employee_last_name VARCHAR(255),
+    employee_leaves_left INTEGER,
+    manager_first_name VARCHAR(255),
+    manager_email VARCHAR(255),
+    from_date DATE,
+    to_date DATE,
+    from_location VARCHAR(255),
+    destination VARCHAR(255),
+    mode_of_transport VARCHAR(255),
+    purpose_of_travel TEXT,
+    status VARCHAR(20),
+    days_requested INTEGER,
+    approved_at DATETIME(6),
+    rejection_reason TEXT,
+    created_at DATETIME(6),
+    PRIMARY KEY (request_id)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_travel_request_views_employee ON travel_request_views (employee_id, created_at, request_id);
+CREATE INDEX idx_travel_request_views_manager ON travel_request_views (manager_id, created_at, request_id);
+CREATE INDEX idx_travel_request_views_manager_status ON travel_request_views (manager_id, status, created_at, request_id);
+CREATE INDEX idx_travel_request_views_employee_status_from ON travel_request_views (employee_id, status, from_date);
+CREATE INDEX idx_travel_request_views_manager_from ON travel_request_views (manager_id, from_date);
+CREATE INDEX idx_travel_request_views_status ON travel_request_views (status, created_at, request_id);
+CREATE INDEX idx_travel_request_views_created ON travel_request_views (created_at, request_id);
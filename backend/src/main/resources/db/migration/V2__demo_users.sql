@@ -1,4 +1,4 @@
--- Create demo users for ADENAI Travel Leave System
+-- Create demo users for ADENAI Travel Leave System (runs once, previously data.sql on every start)
 
 INSERT INTO users (first_name, last_name, email, password, role, leaves_left, manager_id) VALUES
 ('John', 'Manager', 'manager@gmail.com', '$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2uheWG/igi.', 'MANAGER', 25, NULL),
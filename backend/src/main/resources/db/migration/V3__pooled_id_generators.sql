@@ -0,0 +1,26 @@
+-- Ids for users and travel_requests now come from pooled blocks of 50 reserved in id_generators,
+-- which lets Hibernate batch inserts (IDENTITY forces one round-trip per row).
+
+CREATE TABLE IF NOT EXISTS id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB;
+
+-- Start past the existing rows; the pooled optimizer hands out the block ending at next_val.
+-- Guarded so the script can be re-run after an earlier failed attempt on MySQL has been repaired.
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT seed.sequence_name, seed.next_val
+FROM (SELECT 'users' AS sequence_name, COALESCE(MAX(id), 0) + 51 AS next_val FROM users) seed
+WHERE NOT EXISTS (SELECT 1 FROM id_generators g WHERE g.sequence_name = seed.sequence_name);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT seed.sequence_name, seed.next_val
+FROM (SELECT 'travel_requests' AS sequence_name, COALESCE(MAX(id), 0) + 51 AS next_val FROM travel_requests) seed
+WHERE NOT EXISTS (SELECT 1 FROM id_generators g WHERE g.sequence_name = seed.sequence_name);
+
+-- Application inserts always supply the id now, so drop AUTO_INCREMENT to keep manual inserts from
+-- taking ids inside a block the application has already reserved.
+-- users.id keeps it: MySQL refuses to change a column referenced by fk_travel_requests_employee
+-- (ERROR 1833), and the counter is never consulted by the application anyway.
+ALTER TABLE travel_requests MODIFY id BIGINT NOT NULL;
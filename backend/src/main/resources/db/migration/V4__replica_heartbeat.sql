@@ -0,0 +1,8 @@
+-- Single-row heartbeat written on the primary and read back from the replica to measure replication lag
+CREATE TABLE replica_heartbeat (
+    id INT NOT NULL,
+    beat_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP(6));
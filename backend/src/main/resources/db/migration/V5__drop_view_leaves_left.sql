@@ -0,0 +1,2 @@
+-- List responses now read the balance from the leave ledger per page; a copy on every view row went stale on each approval
+ALTER TABLE travel_request_views DROP COLUMN employee_leaves_left;
@@ -0,0 +1,41 @@
+package com.adenai.travelleavesystem;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The production migration chain on a real MySQL; H2 in MySQL mode accepts DDL that MySQL rejects
+@Testcontainers(disabledWithoutDocker = true)
+class MySqlMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Test
+    void productionMigrationsApplyOnMySql() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        MigrateResult result = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(result.targetSchemaVersion).isEqualTo("5");
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(jdbcTemplate.queryForList("SELECT sequence_name FROM id_generators", String.class))
+                .containsExactlyInAnyOrder("users", "travel_requests");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.referential_constraints "
+                + "WHERE constraint_schema = DATABASE() AND constraint_name = 'fk_travel_requests_employee'", Integer.class))
+                .isEqualTo(1);
+    }
+}
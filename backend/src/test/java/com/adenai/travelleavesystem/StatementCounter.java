@@ -0,0 +1,35 @@
+package com.adenai.travelleavesystem;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the calling thread while an action runs, so scheduled
+ * jobs on other threads do not disturb the count. Registered through the test profile
+ * (hibernate.session_factory.statement_inspector); second-level cache hits are never prepared and a
+ * JDBC batch counts once.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger count = CURRENT.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static int count(Runnable action) {
+        AtomicInteger count = new AtomicInteger();
+        CURRENT.set(count);
+        try {
+            action.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return count.get();
+    }
+}
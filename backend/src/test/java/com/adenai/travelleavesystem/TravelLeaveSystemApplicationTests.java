@@ -0,0 +1,73 @@
+package com.adenai.travelleavesystem;
+
+import com.adenai.travelleavesystem.dto.LoginRequest;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Boots the embedded profile end to end: Flyway scripts (including the embedded-only ones), security and the list endpoints
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"embedded", "test"})
+class TravelLeaveSystemApplicationTests {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void contextLoadsWithAllMigrationsApplied() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(Arrays.stream(flyway.info().applied()).map(info -> info.getVersion().getVersion()))
+                .contains("1", "2", "2.1", "3", "4", "5");
+        assertThat(userRepository.findByEmail("manager@gmail.com")).isPresent();
+    }
+
+    @Test
+    void demoManagerCanLogInAndListRequests() {
+        ResponseEntity<Map> login = restTemplate.postForEntity("/api/auth/login",
+                loginRequest("manager@gmail.com", "password123"), Map.class);
+        assertThat(login.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(login.getBody().get("role")).isEqualTo("MANAGER");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth((String) login.getBody().get("token"));
+        ResponseEntity<String> page = restTemplate.exchange("/api/travel/all/page", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+        assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void wrongPasswordAndMissingTokenAreRejected() {
+        ResponseEntity<String> login = restTemplate.postForEntity("/api/auth/login",
+                loginRequest("alice@gmail.com", "not-the-password"), String.class);
+        assertThat(login.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+
+        ResponseEntity<String> list = restTemplate.getForEntity("/api/travel/all/page", String.class);
+        assertThat(list.getStatusCode().is4xxClientError()).isTrue();
+    }
+
+    private static LoginRequest loginRequest(String email, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
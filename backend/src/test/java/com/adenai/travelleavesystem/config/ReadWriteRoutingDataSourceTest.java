@@ -0,0 +1,139 @@
+package com.adenai.travelleavesystem.config;
+
+import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.dto.TravelRequestResponse;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import com.adenai.travelleavesystem.service.TravelRequestService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Primary and replica are two separate in-memory databases, so a row written through the application exists
+ * only on the primary and a read shows which pool served it. Replication of the heartbeat is simulated by
+ * stamping the replica directly; the scheduled check is slowed down so each test drives it explicitly.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.hikari.jdbc-url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "app.datasource.replica.hikari.connection-timeout=250",
+        "app.datasource.replica.lag-check-interval=PT1H"
+})
+@ActiveProfiles({"embedded", "test"})
+class ReadWriteRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    // The replica starts as a copy of the primary's schema and demo data
+    static {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/embedded")
+                .load()
+                .migrate();
+    }
+
+    private final JdbcTemplate replication = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private TravelRequestService travelRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long employeeId;
+
+    @BeforeEach
+    void setUp() {
+        replicate(Duration.ZERO);
+        employeeId = userRepository.findByEmail("alice@gmail.com").orElseThrow().getId();
+    }
+
+    @Test
+    void readOnlyCallsUseTheReplicaAndWritesThePrimary() {
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+
+        Long requestId = travelRequestService.createTravelRequest(trip(), employeeId).getId();
+
+        assertThat(countRequests(new JdbcTemplate(primaryDataSource), requestId)).isEqualTo(1);
+        assertThat(countRequests(replication, requestId)).isZero();
+        assertThat(travelRequestService.getEmployeeRequests(employeeId, null))
+                .extracting(TravelRequestResponse::getId)
+                .doesNotContain(requestId);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        Long requestId = travelRequestService.createTravelRequest(trip(), employeeId).getId();
+
+        replicate(Duration.ofMinutes(1));
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(travelRequestService.getEmployeeRequests(employeeId, null))
+                .extracting(TravelRequestResponse::getId)
+                .contains(requestId);
+    }
+
+    @Test
+    @DirtiesContext
+    void unreachableReplicaFallsBackToThePrimary() {
+        Long requestId = travelRequestService.createTravelRequest(trip(), employeeId).getId();
+
+        replicaDataSource.close();
+        replicaLagMonitor.checkLag();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(travelRequestService.getEmployeeRequests(employeeId, null))
+                .extracting(TravelRequestResponse::getId)
+                .contains(requestId);
+    }
+
+    // Stands in for replication delivering the primary's latest heartbeat after the given delay
+    private void replicate(Duration lag) {
+        replication.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1",
+                Timestamp.valueOf(LocalDateTime.now().minus(lag)));
+        replicaLagMonitor.checkLag();
+    }
+
+    private static int countRequests(JdbcTemplate jdbcTemplate, Long requestId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM travel_requests WHERE id = ?", Integer.class, requestId);
+    }
+
+    private static TravelRequestDto trip() {
+        TravelRequestDto dto = new TravelRequestDto();
+        dto.setFromDate(LocalDate.now().plusDays(50));
+        dto.setToDate(LocalDate.now().plusDays(50));
+        dto.setFromLocation("Pune");
+        dto.setDestination("Mumbai");
+        dto.setModeOfTransport("Car");
+        dto.setPurposeOfTravel("Site visit");
+        return dto;
+    }
+}
@@ -0,0 +1,52 @@
+package com.adenai.travelleavesystem.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The filtered list queries, in the shape TravelRequestViewSpecifications produces, must be planned on their composite indexes
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TravelRequestIndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void employeeStatusAndDateFilterUsesEmployeeStatusFromIndex() {
+        assertThat(explain("SELECT request_id FROM travel_request_views "
+                + "WHERE employee_id = 7 AND status = 'PENDING' AND from_date <= DATE '2026-12-31' AND to_date >= DATE '2026-01-01' "
+                + "ORDER BY created_at DESC, request_id DESC"))
+                .contains("idx_travel_request_views_employee_status_from");
+    }
+
+    @Test
+    void managerDateFilterUsesManagerFromIndex() {
+        assertThat(explain("SELECT request_id FROM travel_request_views "
+                + "WHERE manager_id = 2 AND from_date <= DATE '2026-12-31' AND to_date >= DATE '2026-01-01' "
+                + "ORDER BY created_at DESC, request_id DESC"))
+                .contains("idx_travel_request_views_manager_from");
+    }
+
+    @Test
+    void managerStatusFilterUsesManagerStatusIndex() {
+        assertThat(explain("SELECT request_id FROM travel_request_views "
+                + "WHERE manager_id = 2 AND status = 'PENDING' ORDER BY created_at DESC, request_id DESC"))
+                .contains("idx_travel_request_views_manager_status");
+    }
+
+    @Test
+    void requestTableStatusAndDateFilterUsesEmployeeStatusFromIndex() {
+        assertThat(explain("SELECT id FROM travel_requests "
+                + "WHERE employee_id = 7 AND status = 'APPROVED' AND from_date <= DATE '2026-12-31'"))
+                .contains("idx_travel_requests_employee_status_from");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+    }
+}
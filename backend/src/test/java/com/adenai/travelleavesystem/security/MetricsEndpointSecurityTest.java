@@ -0,0 +1,64 @@
+package com.adenai.travelleavesystem.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every exposed metrics endpoint takes the scrape rule; only health is public. Tests turn metrics export off by default
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.metrics.scrape-password=scrape-secret")
+@ActiveProfiles({"embedded", "test"})
+class MetricsEndpointSecurityTest {
+
+    private static final String[] METRICS_PATHS = {"/actuator/prometheus", "/actuator/metrics", "/actuator/metrics/jvm.memory.used"};
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void metricsEndpointsTakeTheScrapeRule() throws Exception {
+        String employee = bearer("alice@gmail.com");
+        String manager = bearer("manager@gmail.com");
+        String scraper = "Basic " + Base64.getEncoder().encodeToString("prometheus:scrape-secret".getBytes(StandardCharsets.UTF_8));
+
+        for (String path : METRICS_PATHS) {
+            assertThat(get(path, null)).as(path).isIn(401, 403);
+            assertThat(get(path, employee)).as(path).isEqualTo(403);
+            assertThat(get(path, manager)).as(path).isEqualTo(200);
+            assertThat(get(path, scraper)).as(path).isEqualTo(200);
+        }
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtUtils.generateJwtToken((UserPrincipal) customUserDetailsService.loadUserByUsername(email));
+    }
+
+    private int get(String path, String authorization) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return client.send(request.GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,57 @@
+package com.adenai.travelleavesystem.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Logins arrive through a proxy on loopback, so the per-IP limit must key on the forwarded client address
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"embedded", "test"})
+class RateLimitFilterTest {
+
+    // A plain client: TestRestTemplate's HttpClient waits out Retry-After and resends, hiding the 429
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${app.rate-limit.login-ip.capacity}")
+    private int loginIpCapacity;
+
+    @Test
+    void loginLimitIsPerForwardedClient() throws Exception {
+        // The bucket refills while the attempts run, so allow a few more than the burst before it must trip
+        int attempts = 0;
+        HttpStatus status;
+        do {
+            status = login("203.0.113.7");
+            attempts++;
+        } while (status == HttpStatus.UNAUTHORIZED && attempts <= 2 * loginIpCapacity);
+        assertThat(status).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(attempts).isGreaterThan(loginIpCapacity);
+
+        // Another client behind the same proxy has its own bucket
+        assertThat(login("203.0.113.8")).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private HttpStatus login(String clientIp) throws Exception {
+        // A fresh unknown account each time, so only the per-IP policy can reject
+        String body = "{\"email\":\"nobody." + UUID.randomUUID() + "@gmail.com\",\"password\":\"password123\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientIp)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return HttpStatus.valueOf(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+}
@@ -0,0 +1,48 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.dto.ImportReport;
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class BulkImportServiceTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void importedUsersAreAlwaysEmployeesOfTheImportingManager() throws Exception {
+        User manager = userRepository.findByEmail("manager@gmail.com").orElseThrow();
+        String csv = "first_name,last_name,email,password,role\n"
+                + "Imported,Employee,import.employee@gmail.com,password123,\n"
+                + "Imported,Manager,import.manager@gmail.com,password123,MANAGER\n";
+
+        ImportReport report = bulkImportService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), manager.getId());
+
+        assertThat(report.getCreated()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getKey()).isEqualTo("import.manager@gmail.com");
+                    assertThat(error.getMessage()).isEqualTo("Only EMPLOYEE accounts can be imported");
+                });
+        assertThat(userRepository.findByEmail("import.manager@gmail.com")).isEmpty();
+        User employee = userRepository.findByEmail("import.employee@gmail.com").orElseThrow();
+        assertThat(employee.getRole()).isEqualTo(Role.EMPLOYEE);
+        assertThat(employee.getManagerId()).isEqualTo(manager.getId());
+    }
+}
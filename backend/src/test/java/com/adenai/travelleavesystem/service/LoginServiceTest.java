@@ -0,0 +1,78 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import com.adenai.travelleavesystem.security.CustomUserDetailsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class LoginServiceTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private LoginService loginService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rehashWritesOnlyThePassword() throws Exception {
+        String weakHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        User user = createEmployee(weakHash);
+        // Warm the principal cache and the L2 entry, then change the row behind both of them
+        customUserDetailsService.loadUserByUsername(user.getEmail());
+        jdbcTemplate.update("UPDATE users SET leaves_left = 7 WHERE id = ?", user.getId());
+
+        loginService.authenticate(user.getEmail(), PASSWORD).get();
+
+        String storedHash = jdbcTemplate.queryForObject("SELECT password FROM users WHERE id = ?", String.class, user.getId());
+        assertThat(storedHash).isNotEqualTo(weakHash);
+        assertThat(passwordEncoder.matches(PASSWORD, storedHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(storedHash)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT leaves_left FROM users WHERE id = ?", Integer.class, user.getId()))
+                .isEqualTo(7);
+    }
+
+    @Test
+    void rehashLeavesAChangedPasswordAlone() {
+        String weakHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        User user = createEmployee(new BCryptPasswordEncoder(4).encode("changed-meanwhile"));
+
+        int updated = userRepository.updatePasswordIfUnchanged(user.getId(), weakHash, passwordEncoder.encode(PASSWORD),
+                LocalDateTime.now());
+
+        assertThat(updated).isZero();
+        assertThat(passwordEncoder.matches("changed-meanwhile", userRepository.findById(user.getId()).orElseThrow().getPassword()))
+                .isTrue();
+    }
+
+    private User createEmployee(String passwordHash) {
+        User manager = userRepository.findByEmail("manager@gmail.com").orElseThrow();
+        User employee = new User("Login", "Employee", "login." + UUID.randomUUID() + "@gmail.com", passwordHash, Role.EMPLOYEE);
+        employee.setManagerId(manager.getId());
+        employee.setLeavesLeft(30);
+        return userRepository.save(employee);
+    }
+}
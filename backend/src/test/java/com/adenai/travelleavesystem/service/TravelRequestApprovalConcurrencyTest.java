@@ -0,0 +1,98 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two approvals for the same employee, each affordable alone but not together, must not both succeed.
+ * The pool runs at REPEATABLE READ like InnoDB's default. H2 does not take snapshots at the same point
+ * InnoDB does, so this guards the invariant; the lock ordering in approveRequest covers the MySQL case.
+ */
+@SpringBootTest(properties = "spring.datasource.hikari.transaction-isolation=TRANSACTION_REPEATABLE_READ")
+@ActiveProfiles({"embedded", "test"})
+class TravelRequestApprovalConcurrencyTest {
+
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private TravelRequestService travelRequestService;
+
+    @Autowired
+    private LeaveLedgerService leaveLedgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentApprovalsNeverOverdrawTheBalance() throws Exception {
+        User manager = userRepository.findByEmail("manager@gmail.com").orElseThrow();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                User employee = createEmployee(manager.getId(), 10);
+                Long first = travelRequestService.createTravelRequest(sixDayTrip(), employee.getId()).getId();
+                Long second = travelRequestService.createTravelRequest(sixDayTrip(), employee.getId()).getId();
+
+                CyclicBarrier start = new CyclicBarrier(2);
+                List<Future<Boolean>> approvals = new ArrayList<>();
+                for (Long requestId : List.of(first, second)) {
+                    approvals.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            travelRequestService.approveRequest(requestId, manager.getId());
+                            return true;
+                        } catch (RuntimeException e) {
+                            return false;
+                        }
+                    }));
+                }
+
+                int approved = 0;
+                for (Future<Boolean> approval : approvals) {
+                    approved += approval.get(30, TimeUnit.SECONDS) ? 1 : 0;
+                }
+                assertThat(approved).as("approvals in round %d", round).isEqualTo(1);
+                assertThat(leaveLedgerService.getCurrentBalance(userRepository.findById(employee.getId()).orElseThrow()))
+                        .as("balance after round %d", round).isEqualTo(4);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User createEmployee(Long managerId, int leaves) {
+        User employee = new User("Concurrent", "Employee", "concurrent." + UUID.randomUUID() + "@example.com",
+                "{noop}unused", Role.EMPLOYEE);
+        employee.setManagerId(managerId);
+        employee.setLeavesLeft(leaves);
+        return userRepository.save(employee);
+    }
+
+    private static TravelRequestDto sixDayTrip() {
+        TravelRequestDto dto = new TravelRequestDto();
+        dto.setFromDate(LocalDate.now().plusDays(10));
+        dto.setToDate(LocalDate.now().plusDays(15));
+        dto.setFromLocation("Pune");
+        dto.setDestination("Delhi");
+        dto.setModeOfTransport("Train");
+        dto.setPurposeOfTravel("Client visit");
+        return dto;
+    }
+}
@@ -0,0 +1,124 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.dto.BulkDecisionRequest;
+import com.adenai.travelleavesystem.dto.BulkDecisionResponse;
+import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.dto.TravelRequestSummaryResponse;
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.TravelRequestRepository;
+import com.adenai.travelleavesystem.repository.TravelRequestViewRepository;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TravelRequestBulkDecisionTest {
+
+    @Autowired
+    private TravelRequestService travelRequestService;
+
+    @Autowired
+    private TravelRequestSummaryService travelRequestSummaryService;
+
+    @Autowired
+    private LeaveLedgerService leaveLedgerService;
+
+    @Autowired
+    private TravelRequestRepository travelRequestRepository;
+
+    @Autowired
+    private TravelRequestViewRepository travelRequestViewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void mixedBatchDecidesOnlyWhatTheManagerCanAfford() {
+        User manager = createUser(Role.MANAGER, null, 0);
+        User otherManager = createUser(Role.MANAGER, null, 0);
+        // Ten days cover the older of two six-day trips but not both
+        User tight = createUser(Role.EMPLOYEE, manager.getId(), 10);
+        User roomy = createUser(Role.EMPLOYEE, manager.getId(), 30);
+        User foreign = createUser(Role.EMPLOYEE, otherManager.getId(), 30);
+
+        Long older = create(tight, 6);
+        Long newer = create(tight, 6);
+        Long affordable = create(roomy, 3);
+        Long decided = create(roomy, 2);
+        travelRequestService.rejectRequest(decided, manager.getId(), "Not this quarter");
+        Long otherTeam = create(foreign, 1);
+        Long unknown = Long.MAX_VALUE;
+
+        // The newer request is listed first; the balance still goes to the older one
+        BulkDecisionResponse response = travelRequestService.decideBulk(
+                approve(newer, otherTeam, decided, older, affordable, unknown), manager.getId());
+
+        assertThat(response.getResults())
+                .extracting(BulkDecisionResponse.Result::getId, BulkDecisionResponse.Result::getStatus, BulkDecisionResponse.Result::getError)
+                .containsExactly(
+                        tuple(newer, TravelRequestStatus.PENDING, "Insufficient leave balance. Required: 6"),
+                        tuple(otherTeam, null, "Travel request not found"),
+                        tuple(decided, TravelRequestStatus.REJECTED, "Request has already been processed"),
+                        tuple(older, TravelRequestStatus.APPROVED, null),
+                        tuple(affordable, TravelRequestStatus.APPROVED, null),
+                        tuple(unknown, null, "Travel request not found"));
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(4);
+
+        assertThat(leaveLedgerService.getCurrentBalance(userRepository.findById(tight.getId()).orElseThrow())).isEqualTo(4);
+        assertThat(leaveLedgerService.getCurrentBalance(userRepository.findById(roomy.getId()).orElseThrow())).isEqualTo(27);
+        assertThat(leaveLedgerService.getCurrentBalance(userRepository.findById(foreign.getId()).orElseThrow())).isEqualTo(30);
+
+        // Counters and read-model rows agree with the requests themselves
+        assertSummary(travelRequestSummaryService.getSummary(manager.getId()), 1, 2, 1);
+        assertSummary(travelRequestSummaryService.getSummary(otherManager.getId()), 1, 0, 0);
+        for (Long id : List.of(older, newer, affordable, decided, otherTeam)) {
+            TravelRequestStatus status = travelRequestRepository.findById(id).orElseThrow().getStatus();
+            assertThat(travelRequestViewRepository.findById(id).orElseThrow().getStatus()).as("view of %d", id).isEqualTo(status);
+        }
+        assertThat(travelRequestRepository.findById(otherTeam).orElseThrow().getStatus()).isEqualTo(TravelRequestStatus.PENDING);
+        assertThat(travelRequestRepository.findById(newer).orElseThrow().getStatus()).isEqualTo(TravelRequestStatus.PENDING);
+    }
+
+    private static BulkDecisionRequest approve(Long... ids) {
+        BulkDecisionRequest request = new BulkDecisionRequest();
+        request.setIds(List.of(ids));
+        request.setAction(BulkDecisionRequest.BulkAction.APPROVE);
+        return request;
+    }
+
+    private static void assertSummary(TravelRequestSummaryResponse summary, long pending, long approved, long rejected) {
+        assertThat(summary.getPending()).isEqualTo(pending);
+        assertThat(summary.getApproved()).isEqualTo(approved);
+        assertThat(summary.getRejected()).isEqualTo(rejected);
+    }
+
+    private Long create(User employee, int days) {
+        TravelRequestDto dto = new TravelRequestDto();
+        dto.setFromDate(LocalDate.now().plusDays(40));
+        dto.setToDate(LocalDate.now().plusDays(39 + days));
+        dto.setFromLocation("Pune");
+        dto.setDestination("Hyderabad");
+        dto.setModeOfTransport("Train");
+        dto.setPurposeOfTravel("Workshop");
+        return travelRequestService.createTravelRequest(dto, employee.getId()).getId();
+    }
+
+    private User createUser(Role role, Long managerId, int leaves) {
+        User user = new User("Bulk", role.name(), "bulk." + UUID.randomUUID() + "@gmail.com", "{noop}unused", role);
+        user.setManagerId(managerId);
+        user.setLeavesLeft(leaves);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,96 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.StatementCounter;
+import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.TravelRequestStatus;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// List endpoints must issue a constant number of statements however many rows, employees and managers they return
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TravelRequestListStatementCountTest {
+
+    // The list query, plus one user, snapshot and ledger lookup for the page when its balances are not cached
+    private static final int MAX_STATEMENTS = 4;
+
+    @Autowired
+    private TravelRequestService travelRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void managerListsDoNotFanOutPerRow() {
+        User smallTeam = userRepository.save(user(Role.MANAGER, null));
+        User largeTeam = userRepository.save(user(Role.MANAGER, null));
+        createTeam(smallTeam, 1, 1);
+        createTeam(largeTeam, 12, 5);
+
+        int small = StatementCounter.count(() -> assertThat(travelRequestService.getManagerRequests(smallTeam.getId(), null)).hasSize(1));
+        int large = StatementCounter.count(() -> assertThat(travelRequestService.getManagerRequests(largeTeam.getId(), null)).hasSize(60));
+        assertThat(large).isEqualTo(small).isBetween(1, MAX_STATEMENTS);
+
+        int smallPage = StatementCounter.count(() -> travelRequestService.getManagerRequestPage(smallTeam.getId(), null, null, 100));
+        int largePage = StatementCounter.count(() -> assertThat(
+                travelRequestService.getManagerRequestPage(largeTeam.getId(), null, null, 100).getRequests()).hasSize(60));
+        assertThat(largePage).isEqualTo(smallPage).isBetween(1, MAX_STATEMENTS);
+    }
+
+    @Test
+    void employeeAndGlobalListsDoNotFanOutPerRow() {
+        User employee = createTeam(userRepository.save(user(Role.MANAGER, null)), 3, 20).get(0);
+
+        assertThat(StatementCounter.count(() -> assertThat(travelRequestService.getEmployeeRequests(employee.getId(), null)).hasSize(20)))
+                .isBetween(1, MAX_STATEMENTS);
+        assertThat(StatementCounter.count(() -> travelRequestService.getEmployeeRequestPage(employee.getId(), null, 100)))
+                .isBetween(1, MAX_STATEMENTS);
+        assertThat(StatementCounter.count(() -> assertThat(travelRequestService.getRequestsByStatus(TravelRequestStatus.PENDING)).hasSizeGreaterThanOrEqualTo(60)))
+                .isBetween(1, MAX_STATEMENTS);
+        assertThat(StatementCounter.count(() -> assertThat(travelRequestService.getAllRequests()).hasSizeGreaterThanOrEqualTo(60)))
+                .isBetween(1, MAX_STATEMENTS);
+    }
+
+    // Employees of a fresh manager, so each list is scoped to exactly the rows created here
+    private List<User> createTeam(User manager, int employees, int requestsPerEmployee) {
+        List<User> team = new ArrayList<>();
+        for (int i = 0; i < employees; i++) {
+            team.add(userRepository.save(user(Role.EMPLOYEE, manager.getId())));
+        }
+        for (User employee : team) {
+            for (int i = 0; i < requestsPerEmployee; i++) {
+                travelRequestService.createTravelRequest(oneDayTrip(i), employee.getId());
+            }
+        }
+        return team;
+    }
+
+    private static User user(Role role, Long managerId) {
+        User user = new User("List", role.name(), "list." + UUID.randomUUID() + "@example.com", "{noop}unused", role);
+        user.setManagerId(managerId);
+        user.setLeavesLeft(30);
+        return user;
+    }
+
+    private static TravelRequestDto oneDayTrip(int offset) {
+        TravelRequestDto dto = new TravelRequestDto();
+        dto.setFromDate(LocalDate.now().plusDays(offset + 1));
+        dto.setToDate(LocalDate.now().plusDays(offset + 1));
+        dto.setFromLocation("Pune");
+        dto.setDestination("Mumbai");
+        dto.setModeOfTransport("Train");
+        dto.setPurposeOfTravel("Workshop");
+        return dto;
+    }
+}
@@ -0,0 +1,83 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.dto.TravelRequestSummaryResponse;
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TravelRequestSummaryServiceTest {
+
+    @Autowired
+    private TravelRequestSummaryService travelRequestSummaryService;
+
+    @Autowired
+    private TravelRequestService travelRequestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rebuildCorrectsDriftedCountersOnly() {
+        User drifted = userRepository.save(user(Role.MANAGER, null));
+        User missing = userRepository.save(user(Role.MANAGER, null));
+        User intact = userRepository.save(user(Role.MANAGER, null));
+        User driftedEmployee = userRepository.save(user(Role.EMPLOYEE, drifted.getId()));
+        User missingEmployee = userRepository.save(user(Role.EMPLOYEE, missing.getId()));
+        User intactEmployee = userRepository.save(user(Role.EMPLOYEE, intact.getId()));
+        Long rejected = travelRequestService.createTravelRequest(trip(), driftedEmployee.getId()).getId();
+        travelRequestService.rejectRequest(rejected, drifted.getId(), "Not this quarter");
+        travelRequestService.createTravelRequest(trip(), driftedEmployee.getId());
+        travelRequestService.createTravelRequest(trip(), missingEmployee.getId());
+        travelRequestService.createTravelRequest(trip(), intactEmployee.getId());
+
+        // Writes that bypassed the service: a wrong count, a stray status and a manager with no counters at all
+        jdbcTemplate.update("UPDATE manager_request_counters SET request_count = 9 WHERE manager_id = ? AND status = 'PENDING'", drifted.getId());
+        jdbcTemplate.update("INSERT INTO manager_request_counters (manager_id, status, request_count) VALUES (?, 'APPROVED', 3)", drifted.getId());
+        jdbcTemplate.update("DELETE FROM manager_request_counters WHERE manager_id = ?", missing.getId());
+
+        travelRequestSummaryService.rebuildCounters();
+
+        assertSummary(travelRequestSummaryService.getSummary(drifted.getId()), 1, 0, 1);
+        assertSummary(travelRequestSummaryService.getSummary(missing.getId()), 1, 0, 0);
+        assertSummary(travelRequestSummaryService.getSummary(intact.getId()), 1, 0, 0);
+    }
+
+    private static void assertSummary(TravelRequestSummaryResponse summary, long pending, long approved, long rejected) {
+        assertThat(summary.getPending()).isEqualTo(pending);
+        assertThat(summary.getApproved()).isEqualTo(approved);
+        assertThat(summary.getRejected()).isEqualTo(rejected);
+    }
+
+    private static User user(Role role, Long managerId) {
+        User user = new User("Summary", role.name(), "summary." + UUID.randomUUID() + "@gmail.com", "{noop}unused", role);
+        user.setManagerId(managerId);
+        user.setLeavesLeft(30);
+        return user;
+    }
+
+    private static TravelRequestDto trip() {
+        TravelRequestDto dto = new TravelRequestDto();
+        dto.setFromDate(LocalDate.now().plusDays(20));
+        dto.setToDate(LocalDate.now().plusDays(21));
+        dto.setFromLocation("Pune");
+        dto.setDestination("Goa");
+        dto.setModeOfTransport("Bus");
+        dto.setPurposeOfTravel("Offsite");
+        return dto;
+    }
+}
@@ -0,0 +1,91 @@
+package com.adenai.travelleavesystem.service;
+
+import com.adenai.travelleavesystem.dto.TravelRequestDto;
+import com.adenai.travelleavesystem.dto.TravelRequestResponse;
+import com.adenai.travelleavesystem.model.Role;
+import com.adenai.travelleavesystem.model.User;
+import com.adenai.travelleavesystem.repository.TravelRequestViewRepository;
+import com.adenai.travelleavesystem.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TravelRequestViewServiceTest {
+
+    @Autowired
+    private TravelRequestService travelRequestService;
+
+    @Autowired
+    private TravelRequestViewService travelRequestViewService;
+
+    @Autowired
+    private TravelRequestViewRepository travelRequestViewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void listsShowTheCurrentBalanceOnEveryRow() {
+        User manager = userRepository.findByEmail("manager@gmail.com").orElseThrow();
+        User employee = createEmployee(manager.getId());
+        Long rejected = travelRequestService.createTravelRequest(trip(2), employee.getId()).getId();
+        Long approved = travelRequestService.createTravelRequest(trip(3), employee.getId()).getId();
+        travelRequestService.createTravelRequest(trip(1), employee.getId());
+
+        travelRequestService.rejectRequest(rejected, manager.getId(), "Not this quarter");
+        travelRequestService.approveRequest(approved, manager.getId());
+        travelRequestService.approveRequest(travelRequestService.createTravelRequest(trip(4), employee.getId()).getId(),
+                manager.getId());
+
+        assertThat(travelRequestService.getEmployeeRequests(employee.getId(), null))
+                .hasSize(4)
+                .allSatisfy(response -> assertThat(response.getEmployeeLeavesLeft()).isEqualTo(23));
+        assertThat(travelRequestService.getManagerRequests(manager.getId(), null))
+                .filteredOn(response -> response.getEmployeeLastName().equals(employee.getLastName()))
+                .extracting(TravelRequestResponse::getEmployeeLeavesLeft)
+                .containsOnly(23);
+    }
+
+    @Test
+    void backfillProjectsOnlyMissingRows() {
+        User manager = userRepository.findByEmail("manager@gmail.com").orElseThrow();
+        User employee = createEmployee(manager.getId());
+        Long kept = travelRequestService.createTravelRequest(trip(1), employee.getId()).getId();
+        Long missing = travelRequestService.createTravelRequest(trip(2), employee.getId()).getId();
+        travelRequestViewRepository.deleteById(missing);
+
+        travelRequestViewService.backfillViews();
+
+        assertThat(travelRequestViewRepository.findById(missing)).hasValueSatisfying(view -> {
+            assertThat(view.getEmployeeId()).isEqualTo(employee.getId());
+            assertThat(view.getManagerId()).isEqualTo(manager.getId());
+            assertThat(view.getDaysRequested()).isEqualTo(2);
+        });
+        assertThat(travelRequestViewRepository.findById(kept)).isPresent();
+    }
+
+    private User createEmployee(Long managerId) {
+        User employee = new User("View", "Employee" + UUID.randomUUID(), "view." + UUID.randomUUID() + "@gmail.com", "{noop}unused", Role.EMPLOYEE);
+        employee.setManagerId(managerId);
+        employee.setLeavesLeft(30);
+        return userRepository.save(employee);
+    }
+
+    private static TravelRequestDto trip(int days) {
+        TravelRequestDto dto = new TravelRequestDto();
+        dto.setFromDate(LocalDate.now().plusDays(30));
+        dto.setToDate(LocalDate.now().plusDays(29 + days));
+        dto.setFromLocation("Pune");
+        dto.setDestination("Chennai");
+        dto.setModeOfTransport("Flight");
+        dto.setPurposeOfTravel("Conference");
+        return dto;
+    }
+}
@@ -23,13 +23,14 @@ import {
 import { CheckCircle, Cancel, Visibility } from '@mui/icons-material';
 import { useAuth } from '../contexts/AuthContext';
 import { travelAPI } from '../services/api';
-import { TravelRequestResponse } from '../types';
+import { TravelRequestResponse, TravelRequestSummary } from '../types';
 
 const statusFilters = ['ALL', 'PENDING', 'APPROVED', 'REJECTED'];
 
 const ManagerDashboard: React.FC = () => {
   const { user } = useAuth();
   const [requests, setRequests] = useState<TravelRequestResponse[]>([]);
+  const [summary, setSummary] = useState<TravelRequestSummary>({ total: 0, pending: 0, approved: 0, rejected: 0 });
   const [loading, setLoading] = useState(true);
   const [selectedTab, setSelectedTab] = useState(0);
   const [selectedRequest, setSelectedRequest] = useState<TravelRequestResponse | null>(null);
@@ -50,14 +51,28 @@ const ManagerDashboard: React.FC = () => {
     }
   }, [selectedTab]);
 
+  const fetchSummary = useCallback(async () => {
+    try {
+      const response = await travelAPI.getSummary();
+      setSummary(response.data);
+    } catch (error) {
+      console.error('Error fetching summary:', error);
+    }
+  }, []);
+
   useEffect(() => {
     fetchRequests();
   }, [fetchRequests]);
 
+  useEffect(() => {
+    fetchSummary();
+  }, [fetchSummary]);
+
   const handleApprove = async (requestId: number) => {
     try {
       await travelAPI.approveRequest(requestId);
       fetchRequests();
+      fetchSummary();
     } catch (error) {
       console.error('Error approving request:', error);
     }
@@ -73,6 +88,7 @@ const ManagerDashboard: React.FC = () => {
       try {
         await travelAPI.rejectRequest(rejectingRequestId, rejectionReason);
         fetchRequests();
+        fetchSummary();
         setOpenRejectDialog(false);
         setOpenDetails(false);
         setRejectionReason('');
@@ -140,7 +156,7 @@ const ManagerDashboard: React.FC = () => {
           textAlign: 'center'
         }}>
           <Typography variant="h6" sx={{ fontWeight: 'bold' }}>📊 Total Requests</Typography>
-          <Typography variant="h3" sx={{ fontWeight: 'bold', mt: 1 }}>{requests.length}</Typography>
+          <Typography variant="h3" sx={{ fontWeight: 'bold', mt: 1 }}>{summary.total}</Typography>
         </Paper>
         <Paper sx={{ 
           p: 3, 
@@ -152,7 +168,7 @@ const ManagerDashboard: React.FC = () => {
           textAlign: 'center'
         }}>
           <Typography variant="h6" sx={{ fontWeight: 'bold' }}>⏳ Pending</Typography>
-          <Typography variant="h3" sx={{ fontWeight: 'bold', mt: 1 }}>{requests.filter(r => r.status === 'PENDING').length}</Typography>
+          <Typography variant="h3" sx={{ fontWeight: 'bold', mt: 1 }}>{summary.pending}</Typography>
         </Paper>
         <Paper sx={{ 
           p: 3, 
@@ -164,7 +180,7 @@ const ManagerDashboard: React.FC = () => {
           textAlign: 'center'
         }}>
           <Typography variant="h6" sx={{ fontWeight: 'bold' }}>✅ Approved</Typography>
-          <Typography variant="h3" sx={{ fontWeight: 'bold', mt: 1 }}>{requests.filter(r => r.status === 'APPROVED').length}</Typography>
+          <Typography variant="h3" sx={{ fontWeight: 'bold', mt: 1 }}>{summary.approved}</Typography>
         </Paper>
         <Paper sx={{ 
           p: 3, 
@@ -176,7 +192,7 @@ const ManagerDashboard: React.FC = () => {
           textAlign: 'center'
         }}>
           <Typography variant="h6" sx={{ fontWeight: 'bold' }}>❌ Rejected</Typography>
-          <Typography variant="h3" sx={{ fontWeight: 'bold', mt: 1 }}>{requests.filter(r => r.status === 'REJECTED').length}</Typography>
+          <Typography variant="h3" sx={{ fontWeight: 'bold', mt: 1 }}>{summary.rejected}</Typography>
         </Paper>
       </Box>
 
@@ -40,6 +40,8 @@ export const travelAPI = {
     api.get('/travel/myrequests'),
   getAllRequests: (status?: string) =>
     api.get(`/travel/all${status ? `?status=${status}` : ''}`),
+  getSummary: () =>
+    api.get('/travel/summary'),
   getRequestById: (id: number) =>
     api.get(`/travel/${id}`),
   approveRequest: (id: number) =>
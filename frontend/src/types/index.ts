@@ -46,3 +46,10 @@ export interface TravelRequestResponse {
   approvedAt?: string;
   rejectionReason?: string;
 }
+
+export interface TravelRequestSummary {
+  total: number;
+  pending: number;
+  approved: number;
+  rejected: number;
+}